@@ -31,45 +31,68 @@ package org.burningwave.core;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
+import org.burningwave.core.reflection.Fields;
 
 public class Cache implements Component {
 	public final PathForResources<ByteBuffer> pathForContents;
 	public final PathForResources<FileSystemItem> pathForFileSystemItems;
 	public final PathForResources<IterableZipContainer> pathForZipFiles;
-	public final ObjectAndPathForResources<ClassLoader, Field[]> classLoaderForFields;
-	public final ObjectAndPathForResources<ClassLoader, Method[]> classLoaderForMethods;
-	public final ObjectAndPathForResources<ClassLoader, Constructor<?>[]> classLoaderForConstructors;
+	public final ClassForObject<Field[]> classForFields;
+	public final ClassForObject<Method[]> classForMethods;
+	public final ClassForObject<Constructor<?>[]> classForConstructors;
+	public final ClassForObject<Fields.Accessor> classForFieldsAccessor;
+	public final ClassForObject<Map<String, Method[][]>> classForMethodsSignatureIndex;
 	public final ObjectForObject<Method, Object> bindedFunctionalInterfaces;
-	public final PathForResources<Field> uniqueKeyForField;
-	public final PathForResources<Collection<Method>> uniqueKeyForMethods;
-	public final ObjectForObject<Method, MethodHandle> uniqueKeyForMethodHandle;
+	public final ObjectForObject<Method, Object> bindedPrimitiveFunctionalInterfaces;
+	public final ClassForMembers<Field> classAndNameForField;
+	public final ClassForMembers<Method> classAndNameForMethod;
+	public final ClassForMembers<MethodHandle> invocationPlanForMethodsMatchingName;
+	public final ClassForMembers<Constructor<?>> classAndNameForConstructor;
+	public final MemberForObject<Method, MethodHandle> methodForMethodHandle;
+	public final MemberForObject<Field, MethodHandle> fieldForGetter;
+	public final MemberForObject<Field, MethodHandle> fieldForSetter;
 	
 	private Cache() {
 		logInfo("Building cache");
 		pathForContents = new PathForResources<>(1L, Streams::shareContent);
 		pathForFileSystemItems = new PathForResources<>(1L, fileSystemItem -> fileSystemItem);
 		pathForZipFiles = new PathForResources<>(1L, zipFileContainer -> zipFileContainer);
-		classLoaderForFields = new ObjectAndPathForResources<>(1L, fields -> fields);
-		classLoaderForMethods = new ObjectAndPathForResources<>(1L, methods -> methods);
-		classLoaderForConstructors = new ObjectAndPathForResources<>(1L, constructors -> constructors);
+		classForFields = new ClassForObject<>();
+		classForMethods = new ClassForObject<>();
+		classForConstructors = new ClassForObject<>();
+		classForFieldsAccessor = new ClassForObject<>();
+		classForMethodsSignatureIndex = new ClassForObject<>();
 		bindedFunctionalInterfaces = new ObjectForObject<>();
-		uniqueKeyForField = new PathForResources<>(1L, field -> field);
-		uniqueKeyForMethods = new PathForResources<>(1L, methods -> methods);
-		uniqueKeyForMethodHandle = new ObjectForObject<>();
+		bindedPrimitiveFunctionalInterfaces = new ObjectForObject<>();
+		classAndNameForField = new ClassForMembers<>();
+		classAndNameForMethod = new ClassForMembers<>();
+		invocationPlanForMethodsMatchingName = new ClassForMembers<>();
+		classAndNameForConstructor = new ClassForMembers<>();
+		methodForMethodHandle = new MemberForObject<>();
+		fieldForGetter = new MemberForObject<>();
+		fieldForSetter = new MemberForObject<>();
 	}
 	
 	public static Cache create() {
@@ -78,39 +101,85 @@ public class Cache implements Component {
 	
 	public static class ObjectForObject<T, R> implements Component {
 		
-		Map<T, R> resources;
+		Map<T, ResourceTask<R>> resources;
 		
 		public ObjectForObject() {
-			this.resources = new HashMap<>();
+			this.resources = new ConcurrentHashMap<>();
 		}
 		
 		public R get(T object) {
-			return resources.get(object);
+			ResourceTask<R> resourceTask = resources.get(object);
+			if (resourceTask == null || resourceTask.isRunningOn(Thread.currentThread())) {
+				return null;
+			}
+			return retrieve(object, resourceTask);
 		}
 		
 		public R getOrUploadIfAbsent(T object, Supplier<R> resourceSupplier) {
-			R resource = resources.get(object);
-			if (resource == null) {
-				synchronized(Classes.getId(resources,object)) {
-					resource = resources.get(object);
-					if (resource == null) {
-						resources.put(object, (resource = resourceSupplier.get()));
-					}
+			ResourceTask<R> resourceTask = resources.get(object);
+			if (resourceTask == null) {
+				ResourceTask<R> newResourceTask = new ResourceTask<>(resourceSupplier::get);
+				resourceTask = resources.putIfAbsent(object, newResourceTask);
+				if (resourceTask == null) {
+					resourceTask = newResourceTask;
+					newResourceTask.run();
 				}
 			}
-			return resource;
+			if (resourceTask.isRunningOn(Thread.currentThread())) {
+				return resourceSupplier.get();
+			}
+			return retrieve(object, resourceTask);
 		}
 		
 		public R upload(T object, R resource) {
-			synchronized(Classes.getId(resources, object)) {
-				return resources.put(object, resource);
-			}				
+			ResourceTask<R> resourceTask = new ResourceTask<>(() -> resource);
+			resourceTask.run();
+			ResourceTask<R> oldResourceTask = resources.put(object, resourceTask);
+			return oldResourceTask != null ? retrieve(object, oldResourceTask) : null;
+		}
+		
+		private R retrieve(T object, ResourceTask<R> resourceTask) {
+			try {
+				R resource = resourceTask.get();
+				if (resource == null) {
+					resources.remove(object, resourceTask);
+				}
+				return resource;
+			} catch (ExecutionException exc) {
+				resources.remove(object, resourceTask);
+				throw Throwables.toRuntimeException(exc.getCause());
+			} catch (InterruptedException exc) {
+				Thread.currentThread().interrupt();
+				throw Throwables.toRuntimeException(exc);
+			}
 		}
 		
 		public void clear() {
 			resources.clear();
 		}
 	}
+	
+	static class ResourceTask<R> extends FutureTask<R> {
+		private volatile Thread runner;
+		
+		ResourceTask(Callable<R> callable) {
+			super(callable);
+		}
+		
+		@Override
+		public void run() {
+			runner = Thread.currentThread();
+			try {
+				super.run();
+			} finally {
+				runner = null;
+			}
+		}
+		
+		boolean isRunningOn(Thread thread) {
+			return runner == thread;
+		}
+	}
 
 	
 	public static class ObjectAndPathForResources<T, R> implements Component  {
@@ -154,6 +223,193 @@ public class Cache implements Component {
 		}
 	}
 	
+	private static <R> ClassValue<R> createClassValue(Supplier<R> resourceSupplier) {
+		return new ClassValue<R>() {
+			@Override
+			protected R computeValue(Class<?> cls) {
+				return resourceSupplier.get();
+			}
+		};
+	}
+	
+	public static class ClassForObject<R> implements Component {
+		
+		private volatile ClassValue<AtomicReference<R>> resources;
+		
+		public ClassForObject() {
+			this.resources = createClassValue(AtomicReference::new);
+		}
+		
+		public R get(Class<?> cls) {
+			return resources.get(cls).get();
+		}
+		
+		public R getOrUploadIfAbsent(Class<?> cls, Supplier<R> resourceSupplier) {
+			AtomicReference<R> resourceWrapper = resources.get(cls);
+			R resource = resourceWrapper.get();
+			if (resource == null) {
+				synchronized (resourceWrapper) {
+					resource = resourceWrapper.get();
+					if (resource == null) {
+						resourceWrapper.set(resource = resourceSupplier.get());
+					}
+				}
+			}
+			return resource;
+		}
+		
+		public void remove(Class<?> cls) {
+			resources.remove(cls);
+		}
+		
+		public void clear() {
+			resources = createClassValue(AtomicReference::new);
+		}
+	}
+	
+	public static class MemberForObject<M extends Member, R> implements Component {
+		
+		private volatile ClassValue<Map<M, R>> resources;
+		
+		public MemberForObject() {
+			this.resources = createClassValue(ConcurrentHashMap::new);
+		}
+		
+		public R get(M member) {
+			return resources.get(member.getDeclaringClass()).get(member);
+		}
+		
+		public R getOrUploadIfAbsent(M member, Supplier<R> resourceSupplier) {
+			return resources.get(member.getDeclaringClass()).computeIfAbsent(member, mmb -> resourceSupplier.get());
+		}
+		
+		public R upload(M member, R resource) {
+			return resources.get(member.getDeclaringClass()).put(member, resource);
+		}
+		
+		public void clear() {
+			resources = createClassValue(ConcurrentHashMap::new);
+		}
+	}
+	
+	public static class ClassForMembers<R> implements Component {
+		
+		private volatile ClassValue<Map<String, Entry<R>[]>> resources;
+		
+		public ClassForMembers() {
+			this.resources = createClassValue(ConcurrentHashMap::new);
+		}
+		
+		public R get(Class<?> cls, String memberName, Object... arguments) {
+			Entry<R>[] entries = resources.get(cls).get(memberName);
+			if (entries != null) {
+				for (Entry<R> entry : entries) {
+					if (entry.matches(arguments)) {
+						return entry.resource;
+					}
+				}
+			}
+			return null;
+		}
+		
+		public R upload(Class<?> cls, String memberName, Object[] arguments, R resource) {
+			Entry<R> newEntry = new Entry<>(Classes.retrieveFrom(arguments), resource);
+			resources.get(cls).compute(memberName, (name, entries) -> {
+				if (entries == null) {
+					Entry<R>[] singleEntry = newEntries(1);
+					singleEntry[0] = newEntry;
+					return singleEntry;
+				}
+				Entry<R>[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+				int newEntriesCount = 0;
+				for (Entry<R> entry : entries) {
+					if (!entry.isStale() && !entry.hasSameArgumentTypesOf(newEntry)) {
+						newEntries[newEntriesCount++] = entry;
+					}
+				}
+				newEntries[newEntriesCount++] = newEntry;
+				return newEntriesCount < newEntries.length ?
+					Arrays.copyOf(newEntries, newEntriesCount) :
+					newEntries;
+			});
+			return resource;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private static <R> Entry<R>[] newEntries(int length) {
+			return (Entry<R>[])new Entry<?>[length];
+		}
+		
+		public void remove(Class<?> cls) {
+			resources.remove(cls);
+		}
+		
+		public void clear() {
+			resources = createClassValue(ConcurrentHashMap::new);
+		}
+		
+		private static class Entry<R> {
+			private final WeakReference<?>[] argumentTypes;
+			private final R resource;
+			
+			private Entry(Class<?>[] argumentTypes, R resource) {
+				this.argumentTypes = new WeakReference<?>[argumentTypes != null ? argumentTypes.length : 0];
+				for (int i = 0; i < this.argumentTypes.length; i++) {
+					if (argumentTypes[i] != null) {
+						this.argumentTypes[i] = new WeakReference<>(argumentTypes[i]);
+					}
+				}
+				this.resource = resource;
+			}
+			
+			private boolean isStale() {
+				for (WeakReference<?> argumentType : argumentTypes) {
+					if (argumentType != null && argumentType.get() == null) {
+						return true;
+					}
+				}
+				return false;
+			}
+			
+			private boolean hasSameArgumentTypesOf(Entry<R> entry) {
+				if (argumentTypes.length != entry.argumentTypes.length) {
+					return false;
+				}
+				for (int i = 0; i < argumentTypes.length; i++) {
+					WeakReference<?> argumentType = argumentTypes[i];
+					WeakReference<?> otherArgumentType = entry.argumentTypes[i];
+					if (argumentType == null || otherArgumentType == null ?
+						argumentType != otherArgumentType :
+						argumentType.get() != otherArgumentType.get()) {
+						return false;
+					}
+				}
+				return true;
+			}
+			
+			private boolean matches(Object[] arguments) {
+				if (arguments == null) {
+					return argumentTypes.length == 0;
+				}
+				if (arguments.length != argumentTypes.length) {
+					return false;
+				}
+				for (int i = 0; i < arguments.length; i++) {
+					Object argument = arguments[i];
+					WeakReference<?> argumentType = argumentTypes[i];
+					if (argument == null || argumentType == null) {
+						if (argument != null || argumentType != null) {
+							return false;
+						}
+					} else if ((argument instanceof Class ? argument : argument.getClass()) != argumentType.get()) {
+						return false;
+					}
+				}
+				return true;
+			}
+		}
+	}
+	
 	public static class PathForResources<R> implements Component  {
 
 		Map<Long, Map<String, Map<String, R>>> resources;	
@@ -232,7 +488,7 @@ public class Cache implements Component {
 		
 		public R upload(String path, Supplier<R> resourceSupplier) {
 			path = Paths.clean(path);
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
+			long occurences = Paths.countSeparators(path);
 			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
 			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
 			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
@@ -241,7 +497,7 @@ public class Cache implements Component {
 		
 		public R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
 			path = Paths.clean(path);
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
+			long occurences = Paths.countSeparators(path);
 			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
 			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
 			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
@@ -254,7 +510,7 @@ public class Cache implements Component {
 		
 		public R remove(String path) {
 			path = Paths.clean(path);
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
+			long occurences = Paths.countSeparators(path);
 			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
 			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
 			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
@@ -284,13 +540,20 @@ public class Cache implements Component {
 		pathForContents.clear();
 		pathForFileSystemItems.clear();
 		pathForZipFiles.clear();
-		classLoaderForFields.clear();
-		classLoaderForMethods.clear();
-		classLoaderForConstructors.clear();
+		classForFields.clear();
+		classForMethods.clear();
+		classForConstructors.clear();
+		classForFieldsAccessor.clear();
+		classForMethodsSignatureIndex.clear();
 		bindedFunctionalInterfaces.clear();
-		uniqueKeyForField.clear();
-		uniqueKeyForMethods.clear();
-		uniqueKeyForMethodHandle.clear();
+		bindedPrimitiveFunctionalInterfaces.clear();
+		classAndNameForField.clear();
+		classAndNameForMethod.clear();
+		invocationPlanForMethodsMatchingName.clear();
+		classAndNameForConstructor.clear();
+		methodForMethodHandle.clear();
+		fieldForGetter.clear();
+		fieldForSetter.clear();
 	}
 	
 	@Override
@@ -31,7 +31,11 @@ package org.burningwave.core;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -43,29 +47,53 @@ import org.burningwave.core.function.TriPredicate;
 @SuppressWarnings("unchecked")
 public class Criteria<E, C extends Criteria<E, C, T>, T extends Criteria.TestContext<E, C>> implements Component {
 	protected BiPredicate<T, E> predicate;
+	protected final static int DEFAULT_PREDICATE_COST = 0;
 	protected Function<BiPredicate<T, E>, BiPredicate<T, E>> logicalOperator;
+	private AtomicReference<T> recycledTestContext = new AtomicReference<>();
+	private AtomicReference<T> falseResultTestContext = new AtomicReference<>();
 	
 	@SuppressWarnings("resource")
 	public final static <E, C extends Criteria<E, C, T>, T extends Criteria.TestContext<E, C>> Criteria<E, C, T> of(final BiPredicate<T, E> predicate) {
 		return new Criteria<E, C, T>().allThat(predicate);
 	}
 	
+	/**
+	 * Joins the next predicate with a logical AND. When the criteria is tested, the operands
+	 * of a conjunction may be evaluated in a different order than they were declared:
+	 * cheaper predicates (e.g. name checks) run before expensive ones (e.g. bytecode or
+	 * member checks), so a declared predicate may not run at all if a later one fails first.
+	 * The result is the same, but predicates should not rely on side effects or on being
+	 * evaluated in declaration order.
+	 */
 	public C and(){
-		logicalOperator = (predicate) -> this.predicate.and(predicate);
+		logicalOperator = (predicate) -> LogicalOperation.and(this.predicate, predicate);
 		return (C)this;
 	}	
 	
+	/**
+	 * Joins the next predicate with a logical OR. As with {@link #and()}, the operands may be
+	 * evaluated in cost order instead of declaration order, and evaluation stops at the
+	 * first predicate that matches.
+	 */
 	public C or(){
-		logicalOperator = (predicate) -> this.predicate.or(predicate);
+		logicalOperator = (predicate) -> LogicalOperation.or(this.predicate, predicate);
 		return (C)this;
 	}
 	
+	/**
+	 * Combines this criteria and the given one with a logical AND; predicates may be
+	 * reordered by cost as described in {@link #and()}.
+	 */
 	public C and(C criteria) {
-		return logicOperation((C)this.createCopy(), criteria.createCopy(), (predicate) -> predicate::and, newInstance());
+		return logicOperation((C)this.createCopy(), criteria.createCopy(), (predicate) -> (otherPredicate) -> LogicalOperation.and(predicate, otherPredicate), newInstance());
 	}
 	
+	/**
+	 * Combines this criteria and the given one with a logical OR; predicates may be
+	 * reordered by cost as described in {@link #and()}.
+	 */
 	public C or(C criteria) {
-		return logicOperation((C)this.createCopy(), criteria.createCopy(), (predicate) -> predicate::or, newInstance());
+		return logicOperation((C)this.createCopy(), criteria.createCopy(), (predicate) -> (otherPredicate) -> LogicalOperation.or(predicate, otherPredicate), newInstance());
 	}
 	
 	protected C logicOperation(C leftCriteria, C rightCriteria, 
@@ -89,7 +117,7 @@ public class Criteria<E, C extends Criteria<E, C, T>, T extends Criteria.TestCon
 	public C allThat(final BiPredicate<T, E> predicate) {
 		this.predicate = concat(
 			this.predicate,
-			(context, entity) -> predicate.test(context, entity)
+			predicate
 		);
 		return (C)this;
 	}
@@ -170,6 +198,44 @@ public class Criteria<E, C extends Criteria<E, C, T>, T extends Criteria.TestCon
 		return this.predicate == null;
 	}
 	
+	protected BiPredicate<T, E> getCompiledPredicate() {
+		return LogicalOperation.compile(this.predicate, getPredicatesSorting());
+	}
+	
+	protected PredicatesSorting getPredicatesSorting() {
+		return PredicatesSorting.ALL;
+	}
+	
+	protected static <T, E> BiPredicate<T, E> withCost(BiPredicate<T, E> predicate, int cost) {
+		return new CostedPredicate<>(predicate, cost);
+	}
+	
+	public T testRecyclingContextAndReturnFalseIfNullOrTrueByDefault(E entity) {
+		T context = recycledTestContext.getAndSet(null);
+		if (context == null) {
+			context = createTestContext();
+		}
+		BiPredicate<T, E> predicate = getCompiledPredicate();
+		context.setEntity(entity).setResult(
+			entity != null && (predicate == null || predicate.test(context, entity))
+		);
+		if (!context.getResult()) {
+			context.recycle();
+			recycledTestContext.set(context);
+			return getFalseResultTestContext();
+		}
+		return context;
+	}
+	
+	private T getFalseResultTestContext() {
+		T context = falseResultTestContext.get();
+		if (context == null) {
+			falseResultTestContext.compareAndSet(null, createTestContext().setResult(false));
+			context = falseResultTestContext.get();
+		}
+		return context;
+	}
+	
 	public T testAndReturnFalseIfNullOrTrueByDefault(E entity) {
 		T context = createTestContext();
 		testAndReturnFalseIfNullOrTrueByDefault(context, entity);
@@ -239,10 +305,11 @@ public class Criteria<E, C extends Criteria<E, C, T>, T extends Criteria.TestCon
 	}
 	
 	private Predicate<E> getPredicateOrFalsePredicateIfNull(T context) {
+		BiPredicate<T, E> predicate = getCompiledPredicate();
 		return context.setPredicate(
-			this.predicate != null?
+			predicate != null?
 				(entity) -> {
-				return context.setEntity(entity).setResult(this.predicate.test(
+				return context.setEntity(entity).setResult(predicate.test(
 					context, 
 					entity
 				)).getResult();
@@ -255,10 +322,11 @@ public class Criteria<E, C extends Criteria<E, C, T>, T extends Criteria.TestCon
 	
 	
 	private Predicate<E> getPredicateOrTruePredicateIfNull(T context) {
+		BiPredicate<T, E> predicate = getCompiledPredicate();
 		return context.setPredicate(
-			this.predicate != null?
+			predicate != null?
 			(entity) -> {
-				return context.setEntity(entity).setResult(this.predicate.test(
+				return context.setEntity(entity).setResult(predicate.test(
 					context, 
 					entity
 				)).getResult();
@@ -330,5 +398,129 @@ public class Criteria<E, C extends Criteria<E, C, T>, T extends Criteria.TestCon
 		public Boolean getResult() {
 			return super.get(Elements.TEST_RESULT);
 		}
+		
+		protected void recycle() {
+			put(Elements.ENTITY, null);
+			put(Elements.PREDICATE, null);
+		}
+	}
+	
+	static class LogicalOperation<T, E> implements BiPredicate<T, E> {
+		private final boolean isConjunction;
+		private final BiPredicate<? super T, ? super E>[] operands;
+		private final BiPredicate<T, E>[] compiled;
+		
+		private LogicalOperation(boolean isConjunction, BiPredicate<? super T, ? super E>[] operands) {
+			this.isConjunction = isConjunction;
+			this.operands = operands;
+			this.compiled = newArray(PredicatesSorting.values().length);
+		}
+		
+		static <T, E> BiPredicate<T, E> and(BiPredicate<T, E> left, BiPredicate<? super T, ? super E> right) {
+			return new LogicalOperation<>(true, LogicalOperation.<T, E>newOperands(left, right));
+		}
+		
+		static <T, E> BiPredicate<T, E> or(BiPredicate<T, E> left, BiPredicate<? super T, ? super E> right) {
+			return new LogicalOperation<>(false, LogicalOperation.<T, E>newOperands(left, right));
+		}
+		
+		private static <T, E> BiPredicate<? super T, ? super E>[] newOperands(
+			BiPredicate<? super T, ? super E> left,
+			BiPredicate<? super T, ? super E> right
+		) {
+			BiPredicate<? super T, ? super E>[] operands = newArray(2);
+			operands[0] = left;
+			operands[1] = right;
+			return operands;
+		}
+		
+		@SuppressWarnings("rawtypes")
+		private static <T, E> BiPredicate<T, E>[] newArray(int length) {
+			return new BiPredicate[length];
+		}
+		
+		static int getCost(BiPredicate<?, ?> predicate) {
+			if (predicate instanceof CostedPredicate) {
+				return ((CostedPredicate<?, ?>)predicate).cost;
+			} else if (predicate instanceof LogicalOperation) {
+				int cost = Integer.MIN_VALUE;
+				for (BiPredicate<?, ?> operand : ((LogicalOperation<?, ?>)predicate).operands) {
+					cost = Math.max(cost, getCost(operand));
+				}
+				return cost;
+			}
+			return DEFAULT_PREDICATE_COST;
+		}
+		
+		static <T, E> BiPredicate<T, E> compile(BiPredicate<T, E> predicate, PredicatesSorting sorting) {
+			if (predicate instanceof LogicalOperation) {
+				return ((LogicalOperation<T, E>)predicate).compile(sorting);
+			} else if (predicate instanceof CostedPredicate) {
+				return ((CostedPredicate<T, E>)predicate).predicate;
+			}
+			return predicate;
+		}
+		
+		BiPredicate<T, E> compile(PredicatesSorting sorting) {
+			BiPredicate<T, E> compiled = this.compiled[sorting.ordinal()];
+			if (compiled == null) {
+				List<BiPredicate<? super T, ? super E>> flattenedOperands = new ArrayList<>();
+				flatten(flattenedOperands);
+				if (sorting == PredicatesSorting.ALL || (sorting == PredicatesSorting.CONJUNCTIONS && isConjunction)) {
+					flattenedOperands.sort(Comparator.comparingInt(LogicalOperation::getCost));
+				}
+				PredicatesSorting operandsSorting = isConjunction || sorting != PredicatesSorting.CONJUNCTIONS ?
+					sorting : PredicatesSorting.NONE;
+				BiPredicate<? super T, ? super E>[] compiledOperands = newArray(flattenedOperands.size());
+				for (int i = 0; i < compiledOperands.length; i++) {
+					compiledOperands[i] = compile((BiPredicate<T, E>)flattenedOperands.get(i), operandsSorting);
+				}
+				this.compiled[sorting.ordinal()] = compiled = compiledOperands.length == 1 ?
+					(BiPredicate<T, E>)compiledOperands[0] :
+					new LogicalOperation<>(isConjunction, compiledOperands);
+			}
+			return compiled;
+		}
+		
+		private void flatten(List<BiPredicate<? super T, ? super E>> flattenedOperands) {
+			for (BiPredicate<? super T, ? super E> operand : operands) {
+				if (operand instanceof LogicalOperation && ((LogicalOperation<T, E>)operand).isConjunction == isConjunction) {
+					((LogicalOperation<T, E>)operand).flatten(flattenedOperands);
+				} else {
+					flattenedOperands.add(operand);
+				}
+			}
+		}
+		
+		@Override
+		public boolean test(T context, E entity) {
+			for (BiPredicate<? super T, ? super E> operand : operands) {
+				if (operand.test(context, entity) != isConjunction) {
+					return !isConjunction;
+				}
+			}
+			return isConjunction;
+		}
+	}
+	
+	protected static enum PredicatesSorting {
+		NONE,
+		CONJUNCTIONS,
+		ALL
+	}
+	
+	static class CostedPredicate<T, E> implements BiPredicate<T, E> {
+		private final BiPredicate<T, E> predicate;
+		private final int cost;
+		
+		private CostedPredicate(BiPredicate<T, E> predicate, int cost) {
+			this.predicate = predicate;
+			this.cost = cost;
+		}
+		
+		@Override
+		public boolean test(T context, E entity) {
+			return predicate.test(context, entity);
+		}
 	}
 }
@@ -28,6 +28,8 @@
  */
 package org.burningwave.core;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 public class LoggingLevel {
 	public final static int ALL_LEVEL_ENABLED = 0b11111;
 	public final static int ALL_LEVEL_DISABLED = 0b00000;
@@ -43,7 +45,7 @@ public class LoggingLevel {
 	public final static LoggingLevel WARN = new LoggingLevel(WARN_ENABLED);
 	public final static LoggingLevel ERROR = new LoggingLevel(ERROR_ENABLED);
 	
-	Integer flags;
+	volatile int flags;
 	
 	public LoggingLevel(int flags){
 		this.flags = flags;
@@ -58,21 +60,42 @@ public class LoggingLevel {
 	}	
 	
 	public static class Mutable extends LoggingLevel{
-
+		private final static AtomicIntegerFieldUpdater<LoggingLevel> FLAGS_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(LoggingLevel.class, "flags");
+		private final static AtomicIntegerFieldUpdater<Mutable> DISABLING_SCOPES_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(Mutable.class, "disablingScopes");
+		
+		private volatile int disablingScopes;
+		
 		public Mutable(int flags) {
 			super(flags);
 		}
 		
-		public void add(Integer level) {
-			this.flags |= flags;
+		@Override
+		public boolean matchPartialy(Integer flags) {
+			return disablingScopes == 0 ? super.matchPartialy(flags) : flags == 0;
+		}
+		
+		public void add(Integer flags) {
+			int toBeAdded = flags;
+			FLAGS_UPDATER.getAndUpdate(this, currentFlags -> currentFlags | toBeAdded);
 		}
 		
 		public void remove(Integer flags) {
-			this.flags = (this.flags | flags) ^ flags;
+			int toBeRemoved = flags;
+			FLAGS_UPDATER.getAndUpdate(this, currentFlags -> currentFlags & ~toBeRemoved);
 		}
 		
 		public void set(Integer flags) {
 			this.flags = flags;
 		}
+		
+		void openDisablingScope() {
+			DISABLING_SCOPES_UPDATER.incrementAndGet(this);
+		}
+		
+		void closeDisablingScope() {
+			DISABLING_SCOPES_UPDATER.decrementAndGet(this);
+		}
 	}
 }
\ No newline at end of file
@@ -30,7 +30,10 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
 
-import java.util.Properties;;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import org.burningwave.core.function.ThrowingSupplier;
 
 public interface ManagedLogger {	
 	
@@ -54,6 +57,10 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.setLoggingLevelFlags(this.getClass(), flag);
 	}
 	
+	public default boolean isLoggingEnabledFor(LoggingLevel loggingLevel) {
+		return ManagedLoggersRepository.isLoggingEnabledFor(this.getClass(), loggingLevel);
+	}
+	
 	default void logError(String message, Throwable exc) {
 		ManagedLoggersRepository.logError(this.getClass(), message, exc);
 	}
@@ -70,6 +77,12 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.logDebug(this.getClass(), message, arguments);
 	}
 	
+	default void logDebug(Supplier<String> messageSupplier) {
+		if (isLoggingEnabledFor(LoggingLevel.DEBUG)) {
+			ManagedLoggersRepository.logDebug(this.getClass(), messageSupplier.get());
+		}
+	}
+	
 	default void logInfo(String message) {
 		ManagedLoggersRepository.logInfo(this.getClass(), message);
 	}
@@ -78,6 +91,12 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.logInfo(this.getClass(), message, arguments);
 	}
 	
+	default void logInfo(Supplier<String> messageSupplier) {
+		if (isLoggingEnabledFor(LoggingLevel.INFO)) {
+			ManagedLoggersRepository.logInfo(this.getClass(), messageSupplier.get());
+		}
+	}
+	
 	default void logWarn(String message) {
 		ManagedLoggersRepository.logWarn(this.getClass(), message);
 	}
@@ -86,6 +105,12 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.logWarn(this.getClass(), message, arguments);
 	}
 	
+	default void logWarn(Supplier<String> messageSupplier) {
+		if (isLoggingEnabledFor(LoggingLevel.WARN)) {
+			ManagedLoggersRepository.logWarn(this.getClass(), messageSupplier.get());
+		}
+	}
+	
 	
 	public static interface Repository {
 		public static final String TYPE_CONFIG_KEY = "managed-logger.repository";
@@ -102,6 +127,11 @@ public interface ManagedLogger {
 		public void setLoggingLevelFlags(Class<?> cls, Integer flag);
 
 		public Integer getLoggingLevelFlags(Class<?> cls);
+		
+		public default boolean isLoggingEnabledFor(Class<?> cls, LoggingLevel loggingLevel) {
+			Integer flags = getLoggingLevelFlags(cls);
+			return isEnabled() && flags != null && new LoggingLevel(flags).partialyMatch(loggingLevel);
+		}
 
 		public void addLoggingLevelFor(LoggingLevel logLevel, String... classNames);
 		
@@ -117,6 +147,16 @@ public interface ManagedLogger {
 		
 		public void enableLogging(Class<?> client);
 		
+		public default <T, E extends Throwable> T executeWithLoggingDisabledFor(Class<?> client, ThrowingSupplier<T, E> executable) throws E {
+			Integer loggingLevelFlags = getLoggingLevelFlags(client);
+			disableLogging(client);
+			try {
+				return executable.get();
+			} finally {
+				setLoggingLevelFlags(client, loggingLevelFlags);
+			}
+		}
+		
 		public void logError(Class<?> client, String message, Throwable exc);
 		
 		public void logError(Class<?> client, String message);
@@ -138,7 +178,7 @@ public interface ManagedLogger {
 		public void logTrace(Class<?> client, String message, Object... arguments);
 		
 		public static abstract class Abst implements Repository{
-			boolean isEnabled;
+			volatile boolean isEnabled;
 			
 			Abst(Properties properties) {
 				init(properties);
@@ -158,6 +198,19 @@ public interface ManagedLogger {
 			
 			abstract void init(Properties properties);
 			
+			abstract LoggingLevel.Mutable getLoggingLevel(Class<?> client);
+			
+			@Override
+			public <T, E extends Throwable> T executeWithLoggingDisabledFor(Class<?> client, ThrowingSupplier<T, E> executable) throws E {
+				LoggingLevel.Mutable loggingLevel = getLoggingLevel(client);
+				loggingLevel.openDisablingScope();
+				try {
+					return executable.get();
+				} finally {
+					loggingLevel.closeDisablingScope();
+				}
+			}
+			
 			protected void removeLoggingLevelFor(Properties properties, String configKey, LoggingLevel... loggingLevels) {
 				String loggerDisabledFor = (String)properties.getProperty(configKey);
 				if (loggerDisabledFor != null) {
@@ -1,16 +1,17 @@
 package org.burningwave.core;
 
 import java.util.AbstractMap;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.slf4j.LoggerFactory;
 
 public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst {
 	private Map<String, Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable>> loggers;
+	private ClassValue<Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable>> loggersForClass;
 	
 	
 	public SLF4JManagedLoggerRepository(Properties properties) {
@@ -19,17 +20,37 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 	
 	@Override
 	void init(Properties properties) {
-		loggers = new HashMap<>();		
+		loggers = new ConcurrentHashMap<>();
+		loggersForClass = new ClassValue<Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable>>() {
+			@Override
+			protected Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> computeValue(Class<?> cls) {
+				return getLoggerEntry(cls.getName());
+			}
+		};
 	}
 	
 	@Override
 	public void setLoggingLevelFlags(Class<?> cls, Integer flags) {
-		getLoggerEntry(cls.getName()).getValue().set(flags);
+		loggersForClass.get(cls).getValue().set(flags);
 	}
 
 	@Override
 	public Integer getLoggingLevelFlags(Class<?> cls) {
-		return getLoggerEntry(cls.getName()).getValue().flags;
+		return loggersForClass.get(cls).getValue().flags;
+	}
+	
+	@Override
+	public boolean isLoggingEnabledFor(Class<?> cls, LoggingLevel loggingLevel) {
+		org.slf4j.Logger logger = getLogger(cls, loggingLevel);
+		if (logger == null) {
+			return false;
+		}
+		int flags = loggingLevel.flags;
+		return ((flags & LoggingLevel.TRACE_ENABLED) != 0 && logger.isTraceEnabled()) ||
+			((flags & LoggingLevel.DEBUG_ENABLED) != 0 && logger.isDebugEnabled()) ||
+			((flags & LoggingLevel.INFO_ENABLED) != 0 && logger.isInfoEnabled()) ||
+			((flags & LoggingLevel.WARN_ENABLED) != 0 && logger.isWarnEnabled()) ||
+			((flags & LoggingLevel.ERROR_ENABLED) != 0 && logger.isErrorEnabled());
 	}
 	
 	@Override
@@ -56,16 +77,17 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 	private Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> getLoggerEntry(String clientName) {
 		Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> loggerEntry = loggers.get(clientName);
 		if (loggerEntry == null) {
-			synchronized (System.identityHashCode(loggers) + "_" + System.identityHashCode(clientName)) {
-				loggerEntry = loggers.get(clientName);
-				if (loggerEntry == null) {
-					loggers.put(clientName, loggerEntry = new AbstractMap.SimpleEntry<>(
-						LoggerFactory.getLogger(clientName), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED)));
-				}
-			}
+			loggerEntry = loggers.computeIfAbsent(clientName, key -> new AbstractMap.SimpleEntry<>(
+				LoggerFactory.getLogger(key), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED))
+			);
 		}
 		return loggerEntry;
 	}
+	
+	@Override
+	LoggingLevel.Mutable getLoggingLevel(Class<?> client) {
+		return loggersForClass.get(client).getValue();
+	}
 
 	private void log(Class<?> client, LoggingLevel loggingLevel, Consumer<org.slf4j.Logger> loggerConsumer) {
 		Optional.ofNullable(getLogger(client, loggingLevel)).ifPresent(logger -> loggerConsumer.accept(logger));
@@ -75,7 +97,7 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 		if (!isEnabled) {
 			return null;
 		}
-		Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> loggerEntry = getLoggerEntry(client.getName());
+		Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> loggerEntry = loggersForClass.get(client);
 		return loggerEntry.getValue().partialyMatch(loggingLevel)? loggerEntry.getKey() : null;
 	}	
 	
@@ -93,11 +115,11 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 	}
 	
 	public void disableLogging(Class<?> client) {
-		getLoggerEntry(client.getName()).getValue().set(LoggingLevel.ALL_LEVEL_DISABLED);
+		loggersForClass.get(client).getValue().set(LoggingLevel.ALL_LEVEL_DISABLED);
 	}
 	
 	public void enableLogging(Class<?> client) {
-		getLoggerEntry(client.getName()).getValue().set(LoggingLevel.ALL_LEVEL_ENABLED);
+		loggersForClass.get(client).getValue().set(LoggingLevel.ALL_LEVEL_ENABLED);
 	}
 	
 	public void logError(Class<?> client, String message, Throwable exc) {
@@ -1,14 +1,15 @@
 package org.burningwave.core;
 
 import java.io.PrintStream;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.burningwave.core.ManagedLogger.Repository;
 
 public class SimpleManagedLoggerRepository extends Repository.Abst {
 	private Map<String, LoggingLevel.Mutable> loggers;
+	private ClassValue<LoggingLevel.Mutable> loggersForClass;
 	
 	public SimpleManagedLoggerRepository(Properties properties) {
 		super(properties);
@@ -17,30 +18,43 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 	
 	@Override
 	void init(Properties properties) {
-		loggers = new HashMap<>();		
+		loggers = new ConcurrentHashMap<>();
+		loggersForClass = new ClassValue<LoggingLevel.Mutable>() {
+			@Override
+			protected LoggingLevel.Mutable computeValue(Class<?> cls) {
+				return getLoggerEnabledFlag(cls.getName());
+			}
+		};
 	}
 	
 	private LoggingLevel.Mutable getLoggerEnabledFlag(String clientName) {
 		LoggingLevel.Mutable loggerEnabledFlag = loggers.get(clientName);
 		if (loggerEnabledFlag == null) {
-			synchronized (getId(loggers, clientName)) {
-				loggerEnabledFlag = loggers.get(clientName);
-				if (loggerEnabledFlag == null) {
-					loggers.put(clientName, loggerEnabledFlag = new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED));
-				}
-			}
+			loggerEnabledFlag = loggers.computeIfAbsent(
+				clientName, key -> new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED)
+			);
 		}
 		return loggerEnabledFlag;
 	}
 	
+	@Override
+	LoggingLevel.Mutable getLoggingLevel(Class<?> client) {
+		return loggersForClass.get(client);
+	}
+	
 	@Override
 	public void setLoggingLevelFlags(Class<?> cls, Integer flags) {
-		getLoggerEnabledFlag(cls.getName()).set(flags);
+		loggersForClass.get(cls).set(flags);
 	}
 
 	@Override
 	public Integer getLoggingLevelFlags(Class<?> cls) {
-		return getLoggerEnabledFlag(cls.getName()).flags;
+		return loggersForClass.get(cls).flags;
+	}
+	
+	@Override
+	public boolean isLoggingEnabledFor(Class<?> cls, LoggingLevel loggingLevel) {
+		return isEnabled && loggersForClass.get(cls).partialyMatch(loggingLevel);
 	}
 	
 	@Override
@@ -64,15 +78,8 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 		}
 	}
 	
-	private void setLoggerEnabledFlag(String client, LoggingLevel level) {
-		loggers.put(client, new LoggingLevel.Mutable(level.flags));
-	}
-
 	private void log(Class<?> client, LoggingLevel level, PrintStream printStream, String text, Throwable exception) {
-		if (!isEnabled) {
-			return;
-		}
-		if (getLoggerEnabledFlag(client.getName()).partialyMatch(level)) {
+		if (isLoggingEnabledFor(client, level)) {
 			if (exception == null) {
 				printStream.println(client.getName() + " - " + text);
 			} else {
@@ -83,11 +90,11 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 	}
 	
 	public void disableLogging(Class<?> client) {
-		setLoggerEnabledFlag(client.getName(), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_DISABLED));
+		loggersForClass.get(client).set(LoggingLevel.ALL_LEVEL_DISABLED);
 	}
 	
 	public void enableLogging(Class<?> client) {
-		setLoggerEnabledFlag(client.getName(), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED));
+		loggersForClass.get(client).set(LoggingLevel.ALL_LEVEL_ENABLED);
 	}
 	
 	public void logError(Class<?> client, String message, Throwable exc) {
@@ -103,8 +110,10 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 	}
 	
 	public void logDebug(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.DEBUG, System.out, message, null);
+		if (isLoggingEnabledFor(client, LoggingLevel.DEBUG)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, LoggingLevel.DEBUG, System.out, message, null);
+		}
 	}
 	
 	public void logInfo(Class<?> client, String message) {
@@ -112,8 +121,10 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 	}
 	
 	public void logInfo(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.INFO, System.out, message, null);
+		if (isLoggingEnabledFor(client, LoggingLevel.INFO)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, LoggingLevel.INFO, System.out, message, null);
+		}
 	}
 	
 	public void logWarn(Class<?> client, String message) {
@@ -121,8 +132,10 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 	}
 	
 	public void logWarn(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.WARN, System.out, message, null);
+		if (isLoggingEnabledFor(client, LoggingLevel.WARN)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, LoggingLevel.WARN, System.out, message, null);
+		}
 	}
 	
 	@Override
@@ -132,8 +145,10 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 
 	@Override
 	public void logTrace(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.TRACE, System.out, message, null);
+		if (isLoggingEnabledFor(client, LoggingLevel.TRACE)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, LoggingLevel.TRACE, System.out, message, null);
+		}
 	}
 	
 	private String replacePlaceHolder(String message, Object... arguments) {
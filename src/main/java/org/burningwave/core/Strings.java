@@ -185,19 +185,10 @@ public class Strings implements Component {
 		
 		private Paths() {
 			if (System.getProperty("os.name").toLowerCase().contains("windows")) {
-				pathCleaner = (path) -> {
-					path = path.replace("\\", "/");
-					if (path.startsWith("/")) {
-						path = path.substring(1);
-					}
-					if (path.endsWith("/")) {
-						path = path.substring(0, path.length() - 1);
-					}	
-					return path.replaceAll("\\/{2,}", "/");
-				};
+				pathCleaner = (path) -> clean(path, true);
 				uRLPathConverter = this::convertURLPathToAbsolutePath0;
 			} else {
-				pathCleaner = (path) -> path.replace("\\", "/").replaceAll("\\/{2,}", "/");
+				pathCleaner = (path) -> clean(path, false);
 				uRLPathConverter = this::convertURLPathToAbsolutePath1;
 			}
 		}
@@ -210,16 +201,80 @@ public class Strings implements Component {
 			return pathCleaner.apply(path);
 		}
 		
+		private String clean(String path, boolean removeBoundarySeparators) {
+			int start = 0;
+			int end = path.length();
+			if (removeBoundarySeparators) {
+				if (start < end && isSeparator(path.charAt(start))) {
+					start++;
+				}
+				if (end > start && isSeparator(path.charAt(end - 1))) {
+					end--;
+				}
+			}
+			int firstDirtyCharIndex = -1;
+			char previousChr = 0;
+			for (int i = start; i < end; i++) {
+				char chr = path.charAt(i);
+				if (chr == '\\' || (chr == '/' && previousChr == '/')) {
+					firstDirtyCharIndex = i;
+					break;
+				}
+				previousChr = chr;
+			}
+			if (firstDirtyCharIndex == -1) {
+				return start == 0 && end == path.length() ? path : path.substring(start, end);
+			}
+			char[] chars = new char[end - start];
+			path.getChars(start, firstDirtyCharIndex, chars, 0);
+			int length = firstDirtyCharIndex - start;
+			boolean previousIsSeparator = length > 0 && chars[length - 1] == '/';
+			for (int i = firstDirtyCharIndex; i < end; i++) {
+				char chr = path.charAt(i);
+				if (isSeparator(chr)) {
+					if (!previousIsSeparator) {
+						chars[length++] = '/';
+					}
+					previousIsSeparator = true;
+				} else {
+					chars[length++] = chr;
+					previousIsSeparator = false;
+				}
+			}
+			return new String(chars, 0, length);
+		}
+		
+		private boolean isSeparator(char chr) {
+			return chr == '/' || chr == '\\';
+		}
+		
 		public String normalizeAndClean(String path) {
-			if (path.contains("..") ||
-				path.contains(".\\") ||
-				path.contains(".//")
-			) {
+			if (requiresNormalization(path)) {
 				path = java.nio.file.Paths.get(path).normalize().toString();
 			}
 			return clean(path);
 		}
 		
+		private boolean requiresNormalization(String path) {
+			for (int i = path.indexOf('.'); i != -1 && i < path.length() - 1; i = path.indexOf('.', i + 1)) {
+				char nextChr = path.charAt(i + 1);
+				if (nextChr == '.' || nextChr == '\\' ||
+					(nextChr == '/' && i < path.length() - 2 && path.charAt(i + 2) == '/')
+				) {
+					return true;
+				}
+			}
+			return false;
+		}
+		
+		public int countSeparators(String cleanedPath) {
+			int count = 0;
+			for (int i = cleanedPath.indexOf('/'); i != -1; i = cleanedPath.indexOf('/', i + 1)) {
+				count++;
+			}
+			return count;
+		}
+		
 		public String getExtension(String path) {
 			if (path.endsWith("/")) {
 				return null;
@@ -16,6 +16,7 @@ public class StaticComponentContainer {
 	private static final String HIDE_BANNER_ON_INIT_CONFIG_KEY = "static-component-container.hide-banner-on-init";
 	
 	public static final org.burningwave.core.jvm.LowLevelObjectsHandler.ByteBufferDelegate ByteBufferDelegate;
+	public static final org.burningwave.core.classes.ByteCodeGenerator ByteCodeGenerator;
 	public static final org.burningwave.core.Cache Cache;
 	public static final org.burningwave.core.classes.Classes Classes;
 	public static final org.burningwave.core.classes.Classes.Loaders ClassLoaders;
@@ -79,6 +80,7 @@ public class StaticComponentContainer {
 			Fields = org.burningwave.core.reflection.Fields.create();
 			Methods = org.burningwave.core.reflection.Methods.create();
 			SourceCodeHandler = org.burningwave.core.classes.SourceCodeHandler.create();
+			ByteCodeGenerator = org.burningwave.core.classes.ByteCodeGenerator.create();
 		} catch (Throwable exc){
 			ManagedLoggersRepository.logError(StaticComponentContainer.class, "Exception occurred", exc);
 			throw Throwables.toRuntimeException(exc);
@@ -53,6 +53,7 @@ public class AnnotationSourceGenerator extends SourceGenerator.Abst {
 			innBody.addElement(parameter.setDelimiter(null));
 		}
 		this.body.addElement(innBody);
+		markAsModified();
 		return this;
 	}
 	
@@ -60,6 +61,7 @@ public class AnnotationSourceGenerator extends SourceGenerator.Abst {
 		this.body = Optional.ofNullable(this.body).orElseGet(() -> 
 			BodySourceGenerator.createSimple().setDelimiters("(", ")").setBodyElementSeparator(", ")
 		).addElement(parameter.setDelimiter(null));
+		markAsModified();
 		return this;
 	}
 	
@@ -68,6 +70,7 @@ public class AnnotationSourceGenerator extends SourceGenerator.Abst {
 			BodySourceGenerator.createSimple().setDelimiters("(", ")").setBodyElementSeparator(", ")
 		);
 		this.body.addElement(parameter);
+		markAsModified();
 		return this;
 	}
 	
@@ -89,6 +92,7 @@ public class AnnotationSourceGenerator extends SourceGenerator.Abst {
 			innBody.addElement(parameter);
 		}
 		this.body.addElement(innBody);
+		markAsModified();
 		return this;
 	}
 	
@@ -97,11 +101,17 @@ public class AnnotationSourceGenerator extends SourceGenerator.Abst {
 			BodySourceGenerator.createSimple().setDelimiters("(", ")").setBodyElementSeparator(", ")
 		);
 		body.useType(classes);
+		markAsModified();
 		return this;	
 	}
 	
 	@Override
-	public String make() {
-		return getOrEmpty("@" + name, body);
+	Object[] getStructure() {
+		return new Object[] {type, name, body};
+	}
+	
+	@Override
+	public void make(StringBuilder output) {
+		join(output, "@" + name, body);
 	}
 }
@@ -52,17 +52,20 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 	
 	public BodySourceGenerator setBodyElementSeparator(String elementSeparator) {
 		this.elementSeparator = elementSeparator;
+		markAsModified();
 		return this;
 	}
 	
 	public BodySourceGenerator setElementPrefix(String elementPrefix) {
 		this.elementPrefix = elementPrefix;
+		markAsModified();
 		return this;
 	}
 	
 	public BodySourceGenerator setDelimiters(String startingDelimiter, String endingDelimiter) {
 		this.startingDelimiter = startingDelimiter;
 		this.endingDelimiter = endingDelimiter;
+		markAsModified();
 		return this;
 	}
 	
@@ -71,6 +74,7 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 		for (SourceGenerator generator : generators) {
 			this.bodyGenerators.add(generator);
 		}
+		markAsModified();
 		return this;		
 	}
 	
@@ -84,6 +88,7 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 				}
 			});
 		}
+		markAsModified();
 		return this;
 	}
 
@@ -91,6 +96,7 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 		for (String code : codes) {
 			addCode("\n" + Optional.ofNullable(elementPrefix).orElseGet(() -> "") + code);	
 		}
+		markAsModified();
 		return this;	
 	}
 	
@@ -99,6 +105,7 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 		generators.forEach(generator -> {
 			addElement(generator);
 		});
+		markAsModified();
 		return this;		
 	}
 	
@@ -126,6 +133,7 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 		for (java.lang.Class<?> cls : classes) {			
 			this.usedTypes.add(TypeDeclarationSourceGenerator.create(cls));
 		}
+		markAsModified();
 		return this;		
 	}
 	
@@ -134,12 +142,23 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 		for (String cls : classes) {			
 			this.usedTypes.add(TypeDeclarationSourceGenerator.create(cls, null));
 		}
+		markAsModified();
 		return this;		
 	}
 	
 	@Override
-	public String make() {
-		return getOrEmpty(startingDelimiter, getOrEmpty((Collection<?>)bodyGenerators, (String)Optional.ofNullable(elementSeparator).orElse(EMPTY_SPACE)), endingDelimiter);
+	Object[] getStructure() {
+		return new Object[] {usedTypes, startingDelimiter, endingDelimiter, elementPrefix, elementSeparator, bodyGenerators};
+	}
+	
+	@Override
+	public void make(StringBuilder output) {
+		join(
+			output,
+			startingDelimiter,
+			(Fragment)bodyOutput -> join(bodyOutput, bodyGenerators, Optional.ofNullable(elementSeparator).orElse(EMPTY_SPACE)),
+			endingDelimiter
+		);
 	}
 	
 }
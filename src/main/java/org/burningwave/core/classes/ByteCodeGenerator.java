@@ -0,0 +1,684 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.Virtual;
+import org.burningwave.core.classes.Classes.Symbol;
+import org.burningwave.core.function.MultiParamsConsumer;
+import org.burningwave.core.function.MultiParamsFunction;
+import org.burningwave.core.function.MultiParamsPredicate;
+import org.burningwave.core.function.ThrowingConsumer;
+import org.burningwave.core.io.ByteBufferOutputStream;
+
+
+public class ByteCodeGenerator implements Component {
+	private static final int CLASS_FILE_VERSION = 52;
+	private static final int ACC_SUPER = 0x0020;
+	private static final int ACC_VARARGS = 0x0080;
+	
+	private ByteCodeGenerator() {}
+	
+	public static ByteCodeGenerator create() {
+		return new ByteCodeGenerator();
+	}
+	
+	public ByteBuffer generateFunction(String className, int parametersLength) {
+		return generateMultiParamsInterface(
+			className, "Function", MultiParamsFunction.class, "apply", Object.class, true, parametersLength
+		);
+	}
+	
+	public ByteBuffer generateConsumer(String className, int parametersLength) {
+		return generateMultiParamsInterface(
+			className, "Consumer", MultiParamsConsumer.class, "accept", void.class, false, parametersLength
+		);
+	}
+	
+	public ByteBuffer generatePredicate(String className, int parametersLength) {
+		return generateMultiParamsInterface(
+			className, "Predicate", MultiParamsPredicate.class, "test", boolean.class, false, parametersLength
+		);
+	}
+	
+	private ByteBuffer generateMultiParamsInterface(
+		String className,
+		String type,
+		Class<?> superInterface,
+		String methodName,
+		Class<?> returnType,
+		boolean genericReturnType,
+		int parametersLength
+	) {
+		if (className.contains("$")) {
+			throw Throwables.toRuntimeException(className + " " + type + " could not be a inner class");
+		}
+		ClassFile classFile = new ClassFile(
+			Modifier.PUBLIC | Modifier.INTERFACE | Modifier.ABSTRACT,
+			toInternalName(className), Object.class, superInterface, Virtual.class
+		);
+		StringBuilder classSignature = new StringBuilder("<");
+		StringBuilder methodSignature = new StringBuilder("(");
+		Class<?>[] parameterTypes = new Class<?>[parametersLength];
+		for (int i = 0; i < parametersLength; i++) {
+			classSignature.append("P" + i + ":Ljava/lang/Object;");
+			methodSignature.append("TP" + i + ";");
+			parameterTypes[i] = Object.class;
+		}
+		if (genericReturnType) {
+			classSignature.append("R:Ljava/lang/Object;");
+			methodSignature.append(")TR;");
+		} else {
+			methodSignature.append(")" + toDescriptor(returnType));
+		}
+		classSignature.append(">Ljava/lang/Object;L").append(toInternalName(superInterface.getName()));
+		classSignature.append(genericReturnType ? "<TR;>;" : ";");
+		classSignature.append(toDescriptor(Virtual.class));
+		classFile.setSignature(classSignature.toString());
+		classFile.addAnnotation(FunctionalInterface.class);
+		String descriptor = toDescriptor(returnType, parameterTypes);
+		classFile.addMethod(
+			Modifier.PUBLIC | Modifier.ABSTRACT, methodName, descriptor
+		).setSignature(methodSignature.toString());
+		Code varArgsMethod = classFile.addMethod(
+			Modifier.PUBLIC | ACC_VARARGS, methodName, toDescriptor(returnType, Object[].class)
+		);
+		if (genericReturnType) {
+			varArgsMethod.setSignature("([Ljava/lang/Object;)TR;");
+		}
+		varArgsMethod.load(Object.class, 0);
+		for (int i = 0; i < parametersLength; i++) {
+			varArgsMethod.load(Object[].class, 1).pushInt(i).op(Code.AALOAD);
+		}
+		varArgsMethod.invokeInterface(
+			classFile.getName(), methodName, descriptor, parametersLength + 1
+		).returnValue(returnType).setMaxs(parametersLength + 2, 2);
+		return classFile.toByteBuffer();
+	}
+	
+	public ByteBuffer generateFunctionalInterface(String className, String methodName, Class<?> returnType, Class<?>... parameterTypes) {
+		if (className.contains("$")) {
+			throw Throwables.toRuntimeException(className + " functional interface could not be a inner class");
+		}
+		ClassFile classFile = new ClassFile(
+			Modifier.PUBLIC | Modifier.INTERFACE | Modifier.ABSTRACT,
+			toInternalName(className), Object.class, Virtual.class
+		);
+		classFile.addAnnotation(FunctionalInterface.class);
+		classFile.addMethod(
+			Modifier.PUBLIC | Modifier.ABSTRACT, methodName, toDescriptor(returnType, parameterTypes)
+		);
+		return classFile.toByteBuffer();
+	}
+	
+	public ByteBuffer generatePojo(String className, int options, Class<?>... superClasses) {
+		if (className.contains("$")) {
+			throw Throwables.toRuntimeException(className + " Pojo could not be a inner class");
+		}
+		String packageName = Classes.retrievePackageName(className);
+		Class<?> superClass = null;
+		Collection<Class<?>> interfaces = new LinkedHashSet<>();
+		for (Class<?> iteratedSuperClass : superClasses) {
+			if (iteratedSuperClass.isInterface()) {
+				interfaces.add(iteratedSuperClass);
+			} else if (superClass == null) {
+				superClass = iteratedSuperClass;
+			} else {
+				throw Throwables.toRuntimeException(className + " Pojo could not extends more than one class");
+			}
+		}
+		if (superClass != null && Modifier.isFinal(superClass.getModifiers())) {
+			return null;
+		}
+		Collection<Class<?>> implementedInterfaces = new LinkedHashSet<>(interfaces);
+		implementedInterfaces.add(Virtual.class);
+		ClassFile classFile = new ClassFile(
+			Modifier.PUBLIC | ACC_SUPER, toInternalName(className),
+			superClass != null ? superClass : Object.class,
+			implementedInterfaces.toArray(new Class<?>[implementedInterfaces.size()])
+		);
+		if (superClass != null) {
+			String superClassPackage = Optional.ofNullable(superClass.getPackage()).map(pckg -> pckg.getName()).orElseGet(() -> "");
+			Predicate<Executable> modifierTester = 
+				Strings.areEquals(packageName, superClassPackage) ?
+					executable ->
+						!Modifier.isPrivate(executable.getModifiers()) :
+					executable ->
+						Modifier.isPublic(executable.getModifiers()) ||
+						Modifier.isProtected(executable.getModifiers());
+			Collection<Constructor<?>> constructors = Classes.getDeclaredConstructors(superClass, constructor -> 
+				modifierTester.test(constructor)
+			);
+			if (constructors.isEmpty()) {
+				return null;
+			}
+			boolean buildingMethodsCreationEnabled = (options & PojoSourceGenerator.BUILDING_METHODS_CREATION_ENABLED) != 0;
+			for (Constructor<?> constructor : constructors) {
+				int accessFlags = constructor.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED);
+				if (buildingMethodsCreationEnabled) {
+					accessFlags &= ~Modifier.PUBLIC;
+				}
+				addConstructor(
+					classFile, accessFlags, constructor.getParameterTypes(), buildingMethodsCreationEnabled
+				);
+			}
+		} else {
+			addConstructor(classFile, Modifier.PUBLIC, new Class<?>[0], false);
+		}
+		Map<String, Class<?>> fields = new LinkedHashMap<>();
+		Set<String> methodsSignatures = new HashSet<>();
+		Set<String> implementedMethods = new HashSet<>();
+		for (Class<?> interf : interfaces) {
+			for (Method method : Classes.getDeclaredMethods(interf, method -> 
+				method.getName().startsWith("set") || method.getName().startsWith("get") || method.getName().startsWith("is")
+			)) {
+				if (Modifier.isStatic(method.getModifiers())) {
+					return null;
+				}
+				Class<?>[] parameterTypes = method.getParameterTypes();
+				String descriptor = toDescriptor(method.getReturnType(), parameterTypes);
+				if (!methodsSignatures.add(method.getName() + descriptor)) {
+					return null;
+				}
+				implementedMethods.add(toMethodKey(method));
+				Code methodCode = classFile.addMethod(method.getModifiers() & ~Modifier.ABSTRACT, method.getName(), descriptor);
+				if (method.getName().startsWith("set")) {
+					if (parameterTypes.length != 1 || method.getReturnType() != void.class) {
+						return null;
+					}
+					String fieldName = Strings.lowerCaseFirstCharacter(method.getName().replaceFirst("set", ""));
+					if (!registerField(fields, fieldName, parameterTypes[0])) {
+						return null;
+					}
+					int slots = getSlotsCount(parameterTypes[0]) + 1;
+					methodCode.load(Object.class, 0).load(parameterTypes[0], 1).fieldInsn(
+						Code.PUTFIELD, classFile.getName(), fieldName, toDescriptor(parameterTypes[0])
+					).returnValue(void.class).setMaxs(slots, slots);
+				} else {
+					if (parameterTypes.length != 0 || method.getReturnType() == void.class) {
+						return null;
+					}
+					String prefix = method.getName().startsWith("get")? "get" : "is";
+					String fieldName = Strings.lowerCaseFirstCharacter(method.getName().replaceFirst(prefix, ""));
+					if (!registerField(fields, fieldName, method.getReturnType())) {
+						return null;
+					}
+					methodCode.load(Object.class, 0).fieldInsn(
+						Code.GETFIELD, classFile.getName(), fieldName, toDescriptor(method.getReturnType())
+					).returnValue(method.getReturnType()).setMaxs(getSlotsCount(method.getReturnType()), 1);
+				}
+			}
+		}
+		if (!implementsAllAbstractMethods(superClass, implementedInterfaces, implementedMethods)) {
+			return null;
+		}
+		for (Map.Entry<String, Class<?>> field : fields.entrySet()) {
+			classFile.addField(Modifier.PRIVATE, field.getKey(), toDescriptor(field.getValue()));
+		}
+		return classFile.toByteBuffer();
+	}
+	
+	private boolean implementsAllAbstractMethods(Class<?> superClass, Collection<Class<?>> interfaces, Set<String> implementedMethods) {
+		Set<String> concreteMethods = new HashSet<>(implementedMethods);
+		Set<String> visitedMethods = new HashSet<>(implementedMethods);
+		for (Class<?> cls = superClass; cls != null; cls = cls.getSuperclass()) {
+			for (Method method : Classes.getDeclaredMethods(cls)) {
+				if (Modifier.isStatic(method.getModifiers()) || method.isSynthetic()) {
+					continue;
+				}
+				String methodKey = toMethodKey(method);
+				if (!visitedMethods.add(methodKey)) {
+					continue;
+				}
+				if (Modifier.isAbstract(method.getModifiers())) {
+					return false;
+				}
+				concreteMethods.add(methodKey);
+			}
+		}
+		Collection<String> abstractMethods = new HashSet<>();
+		for (Class<?> interf : interfaces) {
+			for (Method method : interf.getMethods()) {
+				if (method.isDefault()) {
+					concreteMethods.add(toMethodKey(method));
+				} else if (Modifier.isAbstract(method.getModifiers())) {
+					abstractMethods.add(toMethodKey(method));
+				}
+			}
+		}
+		return concreteMethods.containsAll(abstractMethods);
+	}
+	
+	private String toMethodKey(Method method) {
+		return method.getName() + toDescriptor(void.class, method.getParameterTypes());
+	}
+	
+	private void addConstructor(ClassFile classFile, int accessFlags, Class<?>[] parameterTypes, boolean addBuildingMethod) {
+		String descriptor = toDescriptor(void.class, parameterTypes);
+		int slots = getSlotsCount(parameterTypes) + 1;
+		Code constructor = classFile.addMethod(accessFlags, "<init>", descriptor).load(Object.class, 0);
+		loadParameters(constructor, parameterTypes, 1);
+		constructor.methodInsn(
+			Code.INVOKESPECIAL, classFile.getSuperName(), "<init>", descriptor
+		).returnValue(void.class).setMaxs(slots, slots);
+		if (addBuildingMethod) {
+			Code buildingMethod = classFile.addMethod(
+				Modifier.PUBLIC | Modifier.STATIC, "create", "(" + descriptor.substring(1, descriptor.indexOf(')')) + ")L" + classFile.getName() + ";"
+			).typeInsn(Code.NEW, classFile.getName()).op(Code.DUP);
+			loadParameters(buildingMethod, parameterTypes, 0);
+			buildingMethod.methodInsn(
+				Code.INVOKESPECIAL, classFile.getName(), "<init>", descriptor
+			).returnValue(Object.class).setMaxs(slots + 1, slots - 1);
+		}
+	}
+	
+	private void loadParameters(Code code, Class<?>[] parameterTypes, int firstSlot) {
+		int slot = firstSlot;
+		for (Class<?> parameterType : parameterTypes) {
+			code.load(parameterType, slot);
+			slot += getSlotsCount(parameterType);
+		}
+	}
+	
+	private boolean registerField(Map<String, Class<?>> fields, String fieldName, Class<?> type) {
+		Class<?> registeredType = fields.putIfAbsent(fieldName, type);
+		return registeredType == null || registeredType == type;
+	}
+	
+	private int getSlotsCount(Class<?>... types) {
+		int count = 0;
+		for (Class<?> type : types) {
+			count += type == long.class || type == double.class ? 2 : 1;
+		}
+		return count;
+	}
+	
+	String toInternalName(String className) {
+		return className.replace(".", "/");
+	}
+	
+	String toDescriptor(Class<?> type) {
+		if (type.isPrimitive()) {
+			if (type == int.class) {
+				return "I";
+			} else if (type == void.class) {
+				return "V";
+			} else if (type == boolean.class) {
+				return "Z";
+			} else if (type == byte.class) {
+				return "B";
+			} else if (type == char.class) {
+				return "C";
+			} else if (type == short.class) {
+				return "S";
+			} else if (type == double.class) {
+				return "D";
+			} else if (type == float.class) {
+				return "F";
+			} else {
+				return "J";
+			}
+		} else if (type.isArray()) {
+			return toInternalName(type.getName());
+		}
+		return "L" + toInternalName(type.getName()) + ";";
+	}
+	
+	String toDescriptor(Class<?> returnType, Class<?>... parameterTypes) {
+		StringBuilder descriptor = new StringBuilder("(");
+		for (Class<?> parameterType : parameterTypes) {
+			descriptor.append(toDescriptor(parameterType));
+		}
+		return descriptor.append(")").append(toDescriptor(returnType)).toString();
+	}
+	
+	
+	class ClassFile {
+		private int accessFlags;
+		private String name;
+		private String superName;
+		private Collection<String> interfaces;
+		private String signature;
+		private Collection<String> annotations;
+		private Collection<byte[]> fields;
+		private Collection<Code> methods;
+		private ByteArrayOutputStream constantPool;
+		private Map<String, Integer> constantPoolIndexes;
+		private int constantPoolCount;
+		
+		ClassFile(int accessFlags, String name, Class<?> superClass, Class<?>... interfaces) {
+			this.accessFlags = accessFlags;
+			this.name = name;
+			this.superName = toInternalName(superClass.getName());
+			this.interfaces = new ArrayList<>();
+			for (Class<?> interf : interfaces) {
+				this.interfaces.add(toInternalName(interf.getName()));
+			}
+			this.annotations = new ArrayList<>();
+			this.fields = new ArrayList<>();
+			this.methods = new ArrayList<>();
+			this.constantPool = new ByteArrayOutputStream();
+			this.constantPoolIndexes = new HashMap<>();
+			this.constantPoolCount = 1;
+		}
+		
+		String getName() {
+			return name;
+		}
+		
+		String getSuperName() {
+			return superName;
+		}
+		
+		void setSignature(String signature) {
+			this.signature = signature;
+		}
+		
+		void addAnnotation(Class<?> annotationType) {
+			annotations.add(toDescriptor(annotationType));
+		}
+		
+		void addField(int accessFlags, String name, String descriptor) {
+			fields.add(new byte[] {
+				(byte)(accessFlags >> 8), (byte)accessFlags,
+				(byte)(utf8(name) >> 8), (byte)utf8(name),
+				(byte)(utf8(descriptor) >> 8), (byte)utf8(descriptor),
+				0, 0
+			});
+		}
+		
+		Code addMethod(int accessFlags, String name, String descriptor) {
+			Code method = new Code(this, accessFlags, name, descriptor);
+			methods.add(method);
+			return method;
+		}
+		
+		int utf8(String value) {
+			return constant("UTF8:" + value, data -> {
+				data.writeByte(Symbol.Tag.UTF8);
+				data.writeUTF(value);
+			});
+		}
+		
+		int classRef(String internalName) {
+			int nameIndex = utf8(internalName);
+			return constant("CLASS:" + internalName, data -> {
+				data.writeByte(Symbol.Tag.CLASS);
+				data.writeShort(nameIndex);
+			});
+		}
+		
+		int memberRef(byte tag, String owner, String name, String descriptor) {
+			int ownerIndex = classRef(owner);
+			int nameIndex = utf8(name);
+			int descriptorIndex = utf8(descriptor);
+			int nameAndTypeIndex = constant("NAME_AND_TYPE:" + name + ":" + descriptor, data -> {
+				data.writeByte(Symbol.Tag.NAME_AND_TYPE);
+				data.writeShort(nameIndex);
+				data.writeShort(descriptorIndex);
+			});
+			return constant(tag + ":" + owner + "." + name + ":" + descriptor, data -> {
+				data.writeByte(tag);
+				data.writeShort(ownerIndex);
+				data.writeShort(nameAndTypeIndex);
+			});
+		}
+		
+		private int constant(String key, ThrowingConsumer<DataOutputStream, IOException> writer) {
+			Integer index = constantPoolIndexes.get(key);
+			if (index == null) {
+				try {
+					writer.accept(new DataOutputStream(constantPool));
+				} catch (IOException exc) {
+					throw Throwables.toRuntimeException(exc);
+				}
+				constantPoolIndexes.put(key, index = constantPoolCount++);
+			}
+			return index;
+		}
+		
+		ByteBuffer toByteBuffer() {
+			int thisClassIndex = classRef(name);
+			int superClassIndex = classRef(superName);
+			int[] interfacesIndexes = interfaces.stream().mapToInt(this::classRef).toArray();
+			byte[][] methodsBytes = new byte[methods.size()][];
+			int methodIndex = 0;
+			for (Code method : methods) {
+				methodsBytes[methodIndex++] = method.toByteArray();
+			}
+			int signatureIndex = signature != null ? utf8(signature) : 0;
+			int[] annotationsIndexes = annotations.stream().mapToInt(this::utf8).toArray();
+			int attributesCount = (signature != null ? 1 : 0) + (annotationsIndexes.length > 0 ? 1 : 0);
+			int signatureAttributeNameIndex = signature != null ? utf8("Signature") : 0;
+			int annotationsAttributeNameIndex = annotationsIndexes.length > 0 ? utf8("RuntimeVisibleAnnotations") : 0;
+			try (ByteBufferOutputStream output = new ByteBufferOutputStream()) {
+				DataOutputStream data = new DataOutputStream(output);
+				data.writeInt(0xCAFEBABE);
+				data.writeShort(0);
+				data.writeShort(CLASS_FILE_VERSION);
+				data.writeShort(constantPoolCount);
+				constantPool.writeTo(data);
+				data.writeShort(accessFlags);
+				data.writeShort(thisClassIndex);
+				data.writeShort(superClassIndex);
+				data.writeShort(interfacesIndexes.length);
+				for (int interfaceIndex : interfacesIndexes) {
+					data.writeShort(interfaceIndex);
+				}
+				data.writeShort(fields.size());
+				for (byte[] field : fields) {
+					data.write(field);
+				}
+				data.writeShort(methodsBytes.length);
+				for (byte[] method : methodsBytes) {
+					data.write(method);
+				}
+				data.writeShort(attributesCount);
+				if (signature != null) {
+					data.writeShort(signatureAttributeNameIndex);
+					data.writeInt(2);
+					data.writeShort(signatureIndex);
+				}
+				if (annotationsIndexes.length > 0) {
+					data.writeShort(annotationsAttributeNameIndex);
+					data.writeInt(2 + annotationsIndexes.length * 4);
+					data.writeShort(annotationsIndexes.length);
+					for (int annotationIndex : annotationsIndexes) {
+						data.writeShort(annotationIndex);
+						data.writeShort(0);
+					}
+				}
+				data.flush();
+				return output.toByteBuffer();
+			} catch (IOException exc) {
+				throw Throwables.toRuntimeException(exc);
+			}
+		}
+	}
+	
+	
+	static class Code {
+		static final int AALOAD = 0x32;
+		static final int DUP = 0x59;
+		static final int GETFIELD = 0xb4;
+		static final int PUTFIELD = 0xb5;
+		static final int INVOKESPECIAL = 0xb7;
+		static final int INVOKEINTERFACE = 0xb9;
+		static final int NEW = 0xbb;
+		
+		private ClassFile classFile;
+		private int accessFlags;
+		private String name;
+		private String descriptor;
+		private String signature;
+		private ByteArrayOutputStream code;
+		private int maxStack;
+		private int maxLocals;
+		
+		private Code(ClassFile classFile, int accessFlags, String name, String descriptor) {
+			this.classFile = classFile;
+			this.accessFlags = accessFlags;
+			this.name = name;
+			this.descriptor = descriptor;
+			if ((accessFlags & Modifier.ABSTRACT) == 0) {
+				this.code = new ByteArrayOutputStream();
+			}
+		}
+		
+		Code setSignature(String signature) {
+			this.signature = signature;
+			return this;
+		}
+		
+		Code setMaxs(int maxStack, int maxLocals) {
+			this.maxStack = maxStack;
+			this.maxLocals = maxLocals;
+			return this;
+		}
+		
+		Code op(int opcode) {
+			code.write(opcode);
+			return this;
+		}
+		
+		Code op(int opcode, int operand) {
+			code.write(opcode);
+			code.write(operand >> 8);
+			code.write(operand);
+			return this;
+		}
+		
+		Code pushInt(int value) {
+			if (value <= 5) {
+				return op(0x03 + value);
+			} else if (value <= Byte.MAX_VALUE) {
+				code.write(0x10);
+				code.write(value);
+				return this;
+			}
+			return op(0x11, value);
+		}
+		
+		Code load(Class<?> type, int slot) {
+			code.write(typedOpcode(0x15, type));
+			code.write(slot);
+			return this;
+		}
+		
+		Code returnValue(Class<?> type) {
+			return op(type == void.class ? 0xb1 : typedOpcode(0xac, type));
+		}
+		
+		Code typeInsn(int opcode, String internalName) {
+			return op(opcode, classFile.classRef(internalName));
+		}
+		
+		Code fieldInsn(int opcode, String owner, String name, String descriptor) {
+			return op(opcode, classFile.memberRef(Symbol.Tag.FIELD_REF, owner, name, descriptor));
+		}
+		
+		Code methodInsn(int opcode, String owner, String name, String descriptor) {
+			return op(opcode, classFile.memberRef(Symbol.Tag.METHOD_REF, owner, name, descriptor));
+		}
+		
+		Code invokeInterface(String owner, String name, String descriptor, int argumentsSlotsCount) {
+			op(INVOKEINTERFACE, classFile.memberRef(Symbol.Tag.INTERFACE_METHOD_REF, owner, name, descriptor));
+			code.write(argumentsSlotsCount);
+			code.write(0);
+			return this;
+		}
+		
+		private int typedOpcode(int intOpcode, Class<?> type) {
+			if (!type.isPrimitive()) {
+				return intOpcode + 4;
+			} else if (type == long.class) {
+				return intOpcode + 1;
+			} else if (type == float.class) {
+				return intOpcode + 2;
+			} else if (type == double.class) {
+				return intOpcode + 3;
+			}
+			return intOpcode;
+		}
+		
+		byte[] toByteArray() {
+			int codeAttributeNameIndex = code != null ? classFile.utf8("Code") : 0;
+			int signatureAttributeNameIndex = signature != null ? classFile.utf8("Signature") : 0;
+			int signatureIndex = signature != null ? classFile.utf8(signature) : 0;
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			try (DataOutputStream data = new DataOutputStream(output)) {
+				data.writeShort(accessFlags);
+				data.writeShort(classFile.utf8(name));
+				data.writeShort(classFile.utf8(descriptor));
+				data.writeShort((code != null ? 1 : 0) + (signature != null ? 1 : 0));
+				if (code != null) {
+					data.writeShort(codeAttributeNameIndex);
+					data.writeInt(12 + code.size());
+					data.writeShort(maxStack);
+					data.writeShort(maxLocals);
+					data.writeInt(code.size());
+					code.writeTo(data);
+					data.writeShort(0);
+					data.writeShort(0);
+				}
+				if (signature != null) {
+					data.writeShort(signatureAttributeNameIndex);
+					data.writeInt(2);
+					data.writeShort(signatureIndex);
+				}
+			} catch (IOException exc) {
+				throw Throwables.toRuntimeException(exc);
+			}
+			return output.toByteArray();
+		}
+	}
+}
@@ -51,6 +51,9 @@ import org.burningwave.core.function.PentaPredicate;
 
 @SuppressWarnings("unchecked")
 public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Class<?>, ClassCriteria, ClassCriteria.TestContext> implements Component {
+	private final static int NAME_PREDICATE_COST = DEFAULT_PREDICATE_COST - 1;
+	private final static int BYTECODE_PREDICATE_COST = DEFAULT_PREDICATE_COST + 1;
+	private final static int MEMBERS_PREDICATE_COST = DEFAULT_PREDICATE_COST + 2;
 	Map<String, MemberCriteria<?, ?, ?>> memberCriterias;
 	PentaPredicate<ClassCriteria, TestContext, MemberCriteria<?, ?, ?>, String, Class<?>> membersPredicate;
 	private boolean collectMembers;
@@ -64,6 +67,11 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		return new ClassCriteria();
 	}
 	
+	@Override
+	protected ClassCriteria newInstance() {
+		return new ClassCriteria();
+	}
+	
 	void init(ClassLoader classSupplier) {
 		this.classSupplier = cls -> {
 			try {
@@ -119,12 +127,12 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	public ClassCriteria packageName(final Predicate<String> predicate) {
 		this.predicate = concat(
 			this.predicate,
-			(testContext, cls) -> {
+			withCost((testContext, cls) -> {
 				Package pckg = cls.getPackage();
 				return pckg != null?
 					predicate.test(pckg.getName()):
 					predicate.test(null);
-			}
+			}, NAME_PREDICATE_COST)
 		);
 		return this;
 	}
@@ -133,7 +141,7 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	public ClassCriteria className(final Predicate<String> predicate) {
 		this.predicate = concat(
 			this.predicate,
-			(testContext, cls) -> predicate.test(cls.getName())
+			withCost((testContext, cls) -> predicate.test(cls.getName()), NAME_PREDICATE_COST)
 		);
 		return this;
 	}
@@ -142,10 +150,10 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	public ClassCriteria byBytecode(Predicate<byte[]> predicate) {
 		this.predicate = concat(
 			this.predicate,
-			(context, cls) -> {
+			withCost((context, cls) -> {
 				ClassCriteria criteria = context.getCriteria();
 				return predicate.test(Streams.toByteArray(criteria.byteCodeSupplier.apply(cls)));
-			}
+			}, BYTECODE_PREDICATE_COST)
 		);
 		return this;
 	}
@@ -153,13 +161,13 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	public ClassCriteria byBytecode(BiPredicate<Map<Class<?>, byte[]>, byte[]> predicate) {
 		this.predicate = concat(
 			this.predicate,
-			(context, cls) -> {
+			withCost((context, cls) -> {
 				ClassCriteria criteria = context.getCriteria();
 				return predicate.test(
 					criteria.getLoadedBytecode(), 
 					Streams.toByteArray(criteria.byteCodeSupplier.apply(cls))
 				);
-			}
+			}, BYTECODE_PREDICATE_COST)
 		);
 		return this;
 	}
@@ -179,10 +187,10 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		this.memberCriterias.put(key, memberCriteria);		
 		this.predicate = concat(
 			this.predicate,
-			(context, cls) -> {
+			withCost((context, cls) -> {
 				ClassCriteria criteria = context.getCriteria();
 				return criteria.membersPredicate.test(criteria, context, memberCriteria, key, cls);
-			}
+			}, MEMBERS_PREDICATE_COST)
 		);
 		return this;
 	}
@@ -227,6 +235,11 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	}
 	
 	
+	@Override
+	protected PredicatesSorting getPredicatesSorting() {
+		return collectMembers ? PredicatesSorting.CONJUNCTIONS : PredicatesSorting.ALL;
+	}
+	
 	@Override
 	public TestContext createTestContext() {
 		return TestContext.create(this);
@@ -262,5 +275,14 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		void addMembersFound(MemberCriteria<?, ?, ?> criteria, Collection<Member> members) {
 			getMembersFound().put(criteria, members);
 		}
+		
+		@Override
+		protected void recycle() {
+			Map<MemberCriteria<?, ?, ?>, Collection<Member>> membersFound = getMembersFound();
+			if (membersFound != null) {
+				membersFound.clear();
+			}
+			super.recycle();
+		}
 	}
 }
@@ -28,21 +28,31 @@
  */
 package org.burningwave.core.classes;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteCodeGenerator;
 import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
 import static org.burningwave.core.assembler.StaticComponentContainer.SourceCodeHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.Virtual;
@@ -52,6 +62,7 @@ import org.burningwave.core.io.FileScanConfigAbst;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.IterableObjectHelper;
 import org.burningwave.core.iterable.Properties;
+import org.burningwave.core.iterable.Properties.Event;
 
 
 public class ClassFactory implements Component {
@@ -59,6 +70,8 @@ public class ClassFactory implements Component {
 	public static final String CLASS_REPOSITORIES_FOR_JAVA_MEMORY_COMPILER_CONFIG_KEY = "class-factory.java-memory-compiler.class-repositories";
 	public static final String CLASS_REPOSITORIES_FOR_DEFAULT_CLASSLOADER_CONFIG_KEY = "class-factory.default-class-loader.class-repositories";
 	public static final String BYTE_CODE_HUNTER_SEARCH_CONFIG_CHECK_FILE_OPTIONS_CONFIG_KEY = "class-factory.byte-code-hunter.search-config.check-file-options";
+	public static final String FUNCTIONAL_INTERFACES_PREGENERATION_MAX_PARAMETERS_COUNT_CONFIG_KEY = "class-factory.functional-interfaces.pregeneration.max-parameters-count";
+	private static final int DEFAULT_FUNCTIONAL_INTERFACES_PREGENERATION_MAX_PARAMETERS_COUNT = 10;
 	
 	private PathHelper pathHelper;
 	private JavaMemoryCompiler javaMemoryCompiler;
@@ -71,6 +84,11 @@ public class ClassFactory implements Component {
 	private IterableObjectHelper iterableObjectHelper;	
 	private Supplier<IterableObjectHelper> iterableObjectHelperSupplier;
 	private Properties config;
+	private static final int BUILD_PLANS_MAX_SIZE_FOR_CLASS_LOADER = 64;
+	
+	private Map<ClassLoader, Map<List<Object>, FutureTask<Function<ClassLoader, ClassRetriever>>>> buildPlans;
+	private Map<ClassLoader, Set<Integer>> pregeneratedFunctionalInterfacesParametersCounts;
+	private Integer functionalInterfacesPregenerationMaxParametersCount;
 	
 	private ClassFactory(
 		ByteCodeHunter byteCodeHunter,
@@ -89,9 +107,18 @@ public class ClassFactory implements Component {
 		this.defaultClassLoaderSupplier = defaultClassLoaderSupplier;
 		this.iterableObjectHelperSupplier = iterableObjectHelperSupplier;
 		this.config = config;
+		this.buildPlans = Collections.synchronizedMap(new WeakHashMap<>());
+		this.pregeneratedFunctionalInterfacesParametersCounts = Collections.synchronizedMap(new WeakHashMap<>());
 		listenTo(config);
 	}
 	
+	@Override
+	public void receiveNotification(Properties properties, Event event, Object key, Object value) {
+		buildPlans.clear();
+		functionalInterfacesPregenerationMaxParametersCount = null;
+		Component.super.receiveNotification(properties, event, key, value);
+	}
+	
 	public static ClassFactory create(
 		ByteCodeHunter byteCodeHunter,
 		Supplier<ClassPathHunter> classPathHunterSupplier,
@@ -141,6 +168,81 @@ public class ClassFactory implements Component {
 	}
 	
 	public <L extends LoadOrBuildAndDefineConfigAbst<L>> ClassRetriever loadOrBuildAndDefine(L config) {
+		ClassLoader classLoader = Optional.ofNullable(
+			config.getClassLoader()
+		).orElseGet(() -> 
+			getDefaultClassLoader()
+		);
+		Collection<UnitSourceGenerator> unitsCode = config.getUnitSourceGenerators();
+		Set<String> classesName = new HashSet<>();
+		List<String> unitsCodeSources = new ArrayList<>();
+		unitsCode.forEach(unitCode -> {
+			unitCode.getAllClasses().entrySet().forEach(entry -> {
+				entry.getValue().addConcretizedType(TypeDeclarationSourceGenerator.create(Virtual.class));
+				classesName.add(entry.getKey());
+			});
+			unitsCodeSources.add(unitCode.make());
+		});
+		if (!config.isUseBuildPlanCache()) {
+			return loadOrBuildAndDefine(config, classLoader, unitsCode, classesName).apply(classLoader);
+		}
+		List<Object> buildPlanKey = Arrays.asList(
+			copyOf(config.getCompilationClassPaths()),
+			copyOf(config.getClassPathsWhereToSearchNotFoundClassesDuringCompilation()),
+			copyOf(config.getClassPathsWhereToSearchNotFoundClassesDuringLoading()),
+			config.isUseOneShotJavaCompiler(),
+			config.isStoreCompiledClasses(),
+			copyOf(classesName),
+			unitsCodeSources
+		);
+		Map<List<Object>, FutureTask<Function<ClassLoader, ClassRetriever>>> buildPlansForClassLoader =
+			buildPlans.computeIfAbsent(classLoader, clsLoader -> createBuildPlansForClassLoader());
+		FutureTask<Function<ClassLoader, ClassRetriever>> buildPlanTask = buildPlansForClassLoader.get(buildPlanKey);
+		if (buildPlanTask == null) {
+			FutureTask<Function<ClassLoader, ClassRetriever>> newBuildPlanTask = new FutureTask<>(() ->
+				loadOrBuildAndDefine(config, classLoader, unitsCode, classesName)
+			);
+			buildPlanTask = buildPlansForClassLoader.putIfAbsent(buildPlanKey, newBuildPlanTask);
+			if (buildPlanTask == null) {
+				buildPlanTask = newBuildPlanTask;
+				newBuildPlanTask.run();
+			}
+		}
+		try {
+			return buildPlanTask.get().apply(classLoader);
+		} catch (ExecutionException exc) {
+			buildPlansForClassLoader.remove(buildPlanKey, buildPlanTask);
+			throw Throwables.toRuntimeException(exc.getCause());
+		} catch (InterruptedException exc) {
+			Thread.currentThread().interrupt();
+			throw Throwables.toRuntimeException(exc);
+		}
+	}
+	
+	private Map<List<Object>, FutureTask<Function<ClassLoader, ClassRetriever>>> createBuildPlansForClassLoader() {
+		return Collections.synchronizedMap(new LinkedHashMap<List<Object>, FutureTask<Function<ClassLoader, ClassRetriever>>>(16, 0.75f, true) {
+			private static final long serialVersionUID = -2905462917584212548L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, FutureTask<Function<ClassLoader, ClassRetriever>>> eldest) {
+				return size() > BUILD_PLANS_MAX_SIZE_FOR_CLASS_LOADER;
+			}
+		});
+	}
+	
+	private Collection<?> copyOf(Collection<?> keyElement) {
+		if (keyElement == null) {
+			return null;
+		}
+		return keyElement instanceof Set ? new HashSet<>(keyElement) : new ArrayList<>(keyElement);
+	}
+	
+	private <L extends LoadOrBuildAndDefineConfigAbst<L>> Function<ClassLoader, ClassRetriever> loadOrBuildAndDefine(
+		L config,
+		ClassLoader classLoader,
+		Collection<UnitSourceGenerator> unitsCode,
+		Set<String> classesName
+	) {
 		Collection<String> compilationClassPaths = 
 			Optional.ofNullable(
 				config.getCompilationClassPaths()
@@ -162,12 +264,6 @@ public class ClassFactory implements Component {
 				pathHelper.getPaths(CLASS_REPOSITORIES_FOR_DEFAULT_CLASSLOADER_CONFIG_KEY)
 			);
 		
-		ClassLoader classLoader = Optional.ofNullable(
-			config.getClassLoader()
-		).orElseGet(() -> 
-			getDefaultClassLoader()
-		);
-		
 		return loadOrBuildAndDefine(
 			config.isUseOneShotJavaCompiler(),
 			compilationClassPaths,
@@ -175,27 +271,22 @@ public class ClassFactory implements Component {
 			classPathsForNotFoundClassesDuringLoading,
 			config.isStoreCompiledClasses(),
 			classLoader,
-			config.getUnitSourceGenerators()
+			unitsCode,
+			classesName
 		);
 	}
 	
-	private ClassRetriever loadOrBuildAndDefine(
+	private Function<ClassLoader, ClassRetriever> loadOrBuildAndDefine(
 		boolean useOneShotJavaCompiler,
 		Collection<String> compilationClassPaths,
 		Collection<String> classPathsForNotFoundClassesDuringCompilantion,
 		Collection<String> classPathsForNotFoundClassesDuringLoading,
 		boolean storeCompiledClasses,
 		ClassLoader classLoader,
-		Collection<UnitSourceGenerator> unitsCode
+		Collection<UnitSourceGenerator> unitsCode,
+		Set<String> classesName
 	) {
 		try {
-			Set<String> classesName = new HashSet<>();
-			unitsCode.forEach(unitCode -> 
-				unitCode.getAllClasses().entrySet().forEach(entry -> {
-					entry.getValue().addConcretizedType(TypeDeclarationSourceGenerator.create(Virtual.class));
-					classesName.add(entry.getKey());
-				})
-			);
 			Map<String, Class<?>> classes = new HashMap<>();
 			AtomicReference<Map<String, ByteBuffer>> retrievedBytecodes = new AtomicReference<>();
 			for (String className : classesName) {
@@ -208,14 +299,14 @@ public class ClassFactory implements Component {
 						classPathsForNotFoundClassesDuringCompilantion, 
 						unitsCode, storeCompiledClasses
 					);
-					return (clsName, additionalByteCodes) -> {
+					return clsLoader -> (clsName, additionalByteCodes) -> {
 						try {
 							Map<String, ByteBuffer> finalByteCodes = compiledByteCodes;
 							if (additionalByteCodes != null) {
 								finalByteCodes = new HashMap<>(compiledByteCodes);
 								finalByteCodes.putAll(additionalByteCodes);
 							}
-							return ClassLoaders.loadOrDefineByByteCode(clsName, finalByteCodes, classLoader);
+							return ClassLoaders.loadOrDefineByByteCode(clsName, finalByteCodes, clsLoader);
 						} catch (Throwable innExc) {
 							return ThrowingSupplier.get(() -> {
 								return ClassLoaders.loadOrDefineByByteCode(clsName, 
@@ -224,7 +315,7 @@ public class ClassFactory implements Component {
 										classPathsForNotFoundClassesDuringLoading,
 										compiledByteCodes,
 										additionalByteCodes
-									).get(), classLoader
+									).get(), clsLoader
 								);
 							});
 						}
@@ -233,12 +324,12 @@ public class ClassFactory implements Component {
 				}
 			}
 			logInfo("Classes {} loaded by classloader {} without building", String.join(", ", classes.keySet()), classLoader);
-			return (clsName, additionalByteCodes) -> {
+			return clsLoader -> (clsName, additionalByteCodes) -> {
 				try {
-					return classLoader.loadClass(clsName);
+					return clsLoader.loadClass(clsName);
 				} catch (Throwable exc) {
 					try {
-						return ClassLoaders.loadOrDefineByByteCode(clsName, Optional.ofNullable(additionalByteCodes).orElseGet(HashMap::new), classLoader);
+						return ClassLoaders.loadOrDefineByByteCode(clsName, Optional.ofNullable(additionalByteCodes).orElseGet(HashMap::new), clsLoader);
 					} catch (Throwable exc2) {
 						return ThrowingSupplier.get(() -> 
 							ClassLoaders.loadOrDefineByByteCode(
@@ -248,7 +339,7 @@ public class ClassFactory implements Component {
 									classPathsForNotFoundClassesDuringLoading,
 									additionalByteCodes
 								).get(), 
-								classLoader
+								clsLoader
 							)
 						);
 					}
@@ -310,11 +401,22 @@ public class ClassFactory implements Component {
 		Collection<UnitSourceGenerator> unitsCode,
 		boolean storeCompiledClasses
 	) {
+		Map<String, String> unitsCodeByClassName = new LinkedHashMap<>();
+		for (UnitSourceGenerator unitCode : unitsCode) {
+			String code = unitCode.make();
+			String mainClassName = Optional.ofNullable(unitCode.getMainClassName()).orElseGet(() ->
+				SourceCodeHandler.extractClassName(code)
+			);
+			if (unitsCodeByClassName.containsKey(mainClassName)) {
+				throw Throwables.toRuntimeException("Duplicate main class name " + mainClassName + " in units to be compiled");
+			}
+			unitsCodeByClassName.put(mainClassName, code);
+		}
 		return build0(
 			useOneShotCompiler,
 			mainClassPaths,
 			extraClassPaths,
-			unitsCode.stream().map(unitCode -> unitCode.make()).collect(Collectors.toList()),
+			unitsCodeByClassName,
 			storeCompiledClasses
 		);
 	}
@@ -323,10 +425,10 @@ public class ClassFactory implements Component {
 		boolean useOneShotCompiler,
 		Collection<String> compilationClassPaths,
 		Collection<String> classPathsForNotFoundClassesDuringCompilantion,
-		Collection<String> unitsCode,
+		Map<String, String> unitsCode,
 		boolean storeCompiledClasses
 	) {
-		logInfo("Try to compile: \n\n{}\n",String.join("\n", unitsCode));
+		logInfo("Try to compile: \n\n{}\n",String.join("\n", unitsCode.values()));
 		if (useOneShotCompiler) {
 			try (JavaMemoryCompiler compiler = JavaMemoryCompiler.create(
 				pathHelper,
@@ -377,7 +479,7 @@ public class ClassFactory implements Component {
 	public <T> Class<T> loadOrBuildAndDefineFunctionSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "FunctionFor", "Parameters", parametersLength,
-			(className, paramsL) -> SourceCodeHandler.generateFunction(className, paramsL)
+			(className, paramsL) -> ByteCodeGenerator.generateFunction(className, paramsL)
 		);
 	}
 	
@@ -388,7 +490,7 @@ public class ClassFactory implements Component {
 	public <T> Class<T> loadOrBuildAndDefineConsumerSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "ConsumerFor", "Parameters", parametersLength,
-			(className, paramsL) -> SourceCodeHandler.generateConsumer(className, paramsL)
+			(className, paramsL) -> ByteCodeGenerator.generateConsumer(className, paramsL)
 		);
 	}
 	
@@ -399,52 +501,167 @@ public class ClassFactory implements Component {
 	public <T> Class<T> loadOrBuildAndDefinePredicateSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "PredicateFor", "Parameters", parametersLength,
-			(className, paramsL) -> SourceCodeHandler.generatePredicate(className, paramsL)
+			(className, paramsL) -> ByteCodeGenerator.generatePredicate(className, paramsL)
 		);
 	}
 	
-	@SuppressWarnings("unchecked")
+	public <T> Class<T> loadOrBuildAndDefinePrimitiveFunctionalInterface(ClassLoader classLoader, Class<?> returnType, Class<?>... parameterTypes) {
+		StringBuilder shape = new StringBuilder();
+		Class<?>[] erasedParameterTypes = new Class<?>[parameterTypes.length];
+		for (int i = 0; i < parameterTypes.length; i++) {
+			erasedParameterTypes[i] = parameterTypes[i].isPrimitive() ? parameterTypes[i] : Object.class;
+			shape.append(getShapeCode(erasedParameterTypes[i]));
+		}
+		String functionalInterfaceName;
+		String methodName;
+		Class<?> erasedReturnType = returnType.isPrimitive() ? returnType : Object.class;
+		if (erasedReturnType == void.class) {
+			functionalInterfaceName = "ConsumerFor" + shape + "Parameters";
+			methodName = "accept";
+		} else if (erasedReturnType == boolean.class) {
+			functionalInterfaceName = "PredicateFor" + shape + "Parameters";
+			methodName = "test";
+		} else {
+			functionalInterfaceName = "FunctionFor" + shape + "ParametersTo" + getShapeCode(erasedReturnType);
+			methodName = "apply";
+		}
+		String className = MultiParamsFunction.class.getPackage().getName() + "." + functionalInterfaceName;
+		return loadOrDefineByByteCode(
+			classLoader, className, () -> 
+				ByteCodeGenerator.generateFunctionalInterface(className, methodName, erasedReturnType, erasedParameterTypes)
+		);
+	}
+	
+	private char getShapeCode(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return 'L';
+		} else if (type == long.class) {
+			return 'J';
+		} else if (type == boolean.class) {
+			return 'Z';
+		}
+		return Character.toUpperCase(type.getName().charAt(0));
+	}
+	
+	public void loadOrBuildAndDefineFunctionalInterfaceSubTypes(ClassLoader classLoader, int maxParametersCount) {
+		ClassLoader targetClassLoader = Optional.ofNullable(classLoader).orElseGet(() -> getDefaultClassLoader());
+		for (int parametersLength = 3; parametersLength <= maxParametersCount; parametersLength++) {
+			loadOrBuildAndDefineFunctionalInterfaceSubTypesFor(targetClassLoader, parametersLength);
+		}
+	}
+	
+	private void loadOrBuildAndDefineFunctionalInterfaceSubTypesFor(ClassLoader targetClassLoader, int parametersLength) {
+		Set<Integer> parametersCounts = pregeneratedFunctionalInterfacesParametersCounts.computeIfAbsent(
+			targetClassLoader, classLoader -> ConcurrentHashMap.newKeySet()
+		);
+		if (parametersCounts.contains(parametersLength)) {
+			return;
+		}
+		synchronized (parametersCounts) {
+			if (parametersCounts.contains(parametersLength)) {
+				return;
+			}
+			Map<String, ByteBuffer> byteCodes = new LinkedHashMap<>();
+			String className = getFunctionalInterfaceSubTypeName("FunctionFor", "Parameters", parametersLength);
+			byteCodes.put(className, ByteCodeGenerator.generateFunction(className, parametersLength));
+			className = getFunctionalInterfaceSubTypeName("ConsumerFor", "Parameters", parametersLength);
+			byteCodes.put(className, ByteCodeGenerator.generateConsumer(className, parametersLength));
+			className = getFunctionalInterfaceSubTypeName("PredicateFor", "Parameters", parametersLength);
+			byteCodes.put(className, ByteCodeGenerator.generatePredicate(className, parametersLength));
+			try {
+				ClassLoaders.loadOrDefineByByteCodes(byteCodes, targetClassLoader);
+			} catch (Throwable exc) {
+				throw Throwables.toRuntimeException(exc);
+			}
+			parametersCounts.add(parametersLength);
+		}
+	}
+	
+	private int getFunctionalInterfacesPregenerationMaxParametersCount() {
+		Integer maxParametersCount = functionalInterfacesPregenerationMaxParametersCount;
+		if (maxParametersCount == null) {
+			try {
+				maxParametersCount = Integer.valueOf(
+					((String)config.getProperty(FUNCTIONAL_INTERFACES_PREGENERATION_MAX_PARAMETERS_COUNT_CONFIG_KEY)).trim()
+				);
+			} catch (Throwable exc) {
+				maxParametersCount = DEFAULT_FUNCTIONAL_INTERFACES_PREGENERATION_MAX_PARAMETERS_COUNT;
+			}
+			functionalInterfacesPregenerationMaxParametersCount = maxParametersCount;
+		}
+		return maxParametersCount;
+	}
+	
+	private String getFunctionalInterfaceSubTypeName(String classNamePrefix, String classNameSuffix, int parametersLength) {
+		return MultiParamsFunction.class.getPackage().getName() + "." + classNamePrefix + parametersLength + classNameSuffix;
+	}
+	
 	private <T> Class<T> loadOrBuildAndDefineFunctionInterfaceSubType(
 		ClassLoader classLoader,
 		String classNamePrefix, 
 		String classNameSuffix,
 		int parametersLength,
-		BiFunction<String, Integer, UnitSourceGenerator> unitSourceGeneratorSupplier
+		BiFunction<String, Integer, ByteBuffer> byteCodeSupplier
 	) {
-		String functionalInterfaceName = classNamePrefix + parametersLength +	classNameSuffix;
-		String packageName = MultiParamsFunction.class.getPackage().getName();
-		String className = packageName + "." + functionalInterfaceName;
-		return (Class<T>) loadOrBuildAndDefine(
-			LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
-				unitSourceGeneratorSupplier.apply(className, parametersLength)
-			).useClassLoader(
-				classLoader
-			)
-		).get(
-			className
+		if (parametersLength > 2 && parametersLength <= getFunctionalInterfacesPregenerationMaxParametersCount()) {
+			loadOrBuildAndDefineFunctionalInterfaceSubTypesFor(
+				Optional.ofNullable(classLoader).orElseGet(() -> getDefaultClassLoader()), parametersLength
+			);
+		}
+		String className = getFunctionalInterfaceSubTypeName(classNamePrefix, classNameSuffix, parametersLength);
+		return loadOrDefineByByteCode(
+			classLoader, className, () -> 
+				byteCodeSupplier.apply(className, parametersLength)
 		);
 	}
 	
+	@SuppressWarnings("unchecked")
+	<T> Class<T> loadOrDefineByByteCode(
+		ClassLoader classLoader,
+		String className,
+		Supplier<ByteBuffer> byteCodeSupplier
+	) {
+		ClassLoader targetClassLoader = Optional.ofNullable(classLoader).orElseGet(() -> getDefaultClassLoader());
+		try {
+			return (Class<T>)targetClassLoader.loadClass(className);
+		} catch (ClassNotFoundException | NoClassDefFoundError exc) {
+			ByteBuffer byteCode = byteCodeSupplier.get();
+			if (byteCode == null) {
+				return null;
+			}
+			Map<String, ByteBuffer> byteCodes = new HashMap<>();
+			byteCodes.put(className, byteCode);
+			try {
+				return ClassLoaders.loadOrDefineByByteCode(className, byteCodes, targetClassLoader);
+			} catch (Throwable innExc) {
+				throw Throwables.toRuntimeException(innExc);
+			}
+		}
+	}
+	
 	
 	
 	public static class PojoSubTypeRetriever {
 		private ClassFactory classFactory;
 		private PojoSourceGenerator sourceGenerator;
+		private boolean byteCodeGenerationEnabled;
 		
 		private PojoSubTypeRetriever(
 			ClassFactory classFactory,
-			PojoSourceGenerator sourceGenerator
+			PojoSourceGenerator sourceGenerator,
+			boolean byteCodeGenerationEnabled
 		) {
 			this.classFactory = classFactory;
 			this.sourceGenerator = sourceGenerator;
+			this.byteCodeGenerationEnabled = byteCodeGenerationEnabled;
 		}
 		
 		public static PojoSubTypeRetriever create(ClassFactory classFactory, PojoSourceGenerator sourceGenerator) {
-			return new PojoSubTypeRetriever(classFactory, sourceGenerator) ;
+			return new PojoSubTypeRetriever(classFactory, sourceGenerator, false) ;
 		}
 
 		public static PojoSubTypeRetriever createDefault(ClassFactory classFactory) {
-			return new PojoSubTypeRetriever(classFactory, PojoSourceGenerator.createDefault());
+			return new PojoSubTypeRetriever(classFactory, PojoSourceGenerator.createDefault(), true);
 		}
 		
 		public <T> Class<T> getOrBuild(
@@ -460,13 +677,7 @@ public class ClassFactory implements Component {
 			int options, 
 			Class<?>... superClasses
 		) {
-			return classFactory.loadOrBuildAndDefine(
-				LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
-					sourceGenerator.create(className, options, superClasses)
-				)
-			).get(
-				className
-			);
+			return loadOrBuildAndDefine(null, className, options, superClasses);
 		}
 		
 		@SuppressWarnings("unchecked")
@@ -476,6 +687,15 @@ public class ClassFactory implements Component {
 			int options, 
 			Class<?>... superClasses
 		) {
+			if (byteCodeGenerationEnabled) {
+				Class<T> cls = classFactory.loadOrDefineByByteCode(
+					classLoader, className, () ->
+						ByteCodeGenerator.generatePojo(className, options, superClasses)
+				);
+				if (cls != null) {
+					return cls;
+				}
+			}
 			return (Class<T>) classFactory.loadOrBuildAndDefine(
 				LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
 					sourceGenerator.create(className, options, superClasses)
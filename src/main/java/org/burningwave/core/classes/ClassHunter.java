@@ -253,7 +253,7 @@ public class ClassHunter extends ClassPathScannerWithCachingSupport<Class<?>, Cl
 				final Collection<Member> membersFoundByCriteriaFinal = new CopyOnWriteArrayList<>();
 				((SearchContext)this.context).getMembersFoundFlatMap().values().forEach((membersCollection) -> {
 					membersCollection.stream().filter(
-						(member) -> criteriaCopy.testAndReturnFalseIfNullOrTrueByDefault((M)member).getResult()
+						(member) -> criteriaCopy.testRecyclingContextAndReturnFalseIfNullOrTrueByDefault((M)member).getResult()
 					).collect(
 						Collectors.toCollection(() -> membersFoundByCriteriaFinal)
 					);
@@ -81,6 +81,7 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 		} else {
 			this.modifier |= modifier; 
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -103,26 +104,21 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 		} else {
 			expands = "extends";
 			this.expandedType = expandedType;
+			markAsModified();
 			return this;
 		}
 	}
 	
 	public ClassSourceGenerator addConcretizedType(Class<?>... concretizedTypes) {
-		if (classType.equals("interface")) {
-			concretize = "extends";
-		} else {
-			concretize = "implements";
+		TypeDeclarationSourceGenerator[] typeDeclarations = new TypeDeclarationSourceGenerator[concretizedTypes.length];
+		for (int i = 0; i < concretizedTypes.length; i++) {
+			typeDeclarations[i] = TypeDeclarationSourceGenerator.create(concretizedTypes[i]);
 		}
-		this.concretizedTypes = Optional.ofNullable(this.concretizedTypes).orElseGet(ArrayList::new);
-		for (Class<?> cls : concretizedTypes) {
-			if (!isAlreadyAdded(cls.getName())) {
-				this.concretizedTypes.add(TypeDeclarationSourceGenerator.create(cls));
-			}
-		}
-		return this;	
+		return addConcretizedType(typeDeclarations);	
 	}
 	
 	public ClassSourceGenerator addConcretizedType(TypeDeclarationSourceGenerator... concretizedTypes) {
+		boolean modified = concretize == null || this.concretizedTypes == null;
 		if (classType.equals("interface")) {
 			concretize = "extends";
 		} else {
@@ -132,8 +128,12 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 		for (TypeDeclarationSourceGenerator typeDeclarationSG : concretizedTypes) {
 			if (!isAlreadyAdded(typeDeclarationSG.getName())) {
 				this.concretizedTypes.add(typeDeclarationSG);
+				modified = true;
 			}
 		}
+		if (modified) {
+			markAsModified();
+		}
 		return this;		
 	}
 	
@@ -157,6 +157,7 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 				this.outerCode.add(code);
 			}
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -165,6 +166,7 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 		for (AnnotationSourceGenerator annotation : annotations) {
 			this.annotations.add(annotation);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -177,6 +179,7 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 				field.setDelimiter(COMMA);
 			}
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -187,6 +190,7 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 			constructor.setName(this.typeDeclaration.getSimpleName());
 			constructor.setReturnType((TypeDeclarationSourceGenerator)null);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -195,6 +199,7 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 		for (FunctionSourceGenerator method : methods) {
 			this.methods.add(method);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -203,30 +208,29 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 		for (ClassSourceGenerator cls : classes) {
 			this.innerClasses.add(cls);
 		}
+		markAsModified();
 		return this;
 	}
 	
-	private String getAnnotations() {
-		return Optional.ofNullable(annotations).map(annts -> getOrEmpty(annts, "\n") +"\n").orElseGet(() -> null);
+	private void makeAnnotations(StringBuilder output) {
+		join(output, annotations, "\n");
+		output.append("\n");
 	}
 	
-	private String getFieldsCode() {
-		return Optional.ofNullable(fields).map(flds -> "\t" + getOrEmpty(flds, "\n").replace("\n", "\n\t")).orElseGet(() -> null);
+	private void makeMembersCode(StringBuilder output, Collection<?> members, String separator) {
+		output.append("\n\n\t");
+		int start = output.length();
+		join(output, members, separator);
+		indent(output, start, false);
 	}
 	
-	private String getFunctionCode(Collection<FunctionSourceGenerator> functions) {
-		return Optional.ofNullable(functions).map(mths -> "\t" + getOrEmpty(mths, "\n\n").replace("\n", "\n\t")).orElseGet(() -> null);
-	}
-	
-	String getInnerClassesCode() {
-		String innerClassesAsString = null;
-		if (innerClasses != null) {
-			innerClassesAsString = "\t";
-			for (ClassSourceGenerator cls : innerClasses) {
-				innerClassesAsString += (cls.make()).replaceAll("\n(.)", "\n\t$1");
-			}
+	private void makeInnerClassesCode(StringBuilder output) {
+		output.append("\n\n\t");
+		for (ClassSourceGenerator cls : innerClasses) {
+			int start = output.length();
+			cls.make(output);
+			indent(output, start, true);
 		}
-		return innerClassesAsString;
 	}
 	
 	Map<String, ClassSourceGenerator> getAllInnerClasses() {
@@ -243,36 +247,38 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 	}
 	
 	@Override
-	public String make() {
-		String annotations = getAnnotations();
-		String fieldsCode = getFieldsCode();
-		String constructorsCode = getFunctionCode(constructors);
-		String methodsCode = getFunctionCode(methods);
-		String innerClassesCode = getInnerClassesCode();
-		return
-			getOrEmpty(
-				getOuterCode(),
-				annotations,
-				Optional.ofNullable(modifier).map(mod -> Modifier.toString(this.modifier)).orElseGet(() -> null),
-				classType,
-				typeDeclaration,
-				expands,
-				expandedType,
-				concretize,
-				getOrEmpty(concretizedTypes, ", "), 
-				"{",
-				fieldsCode != null? "\n\n" + fieldsCode : null,
-				constructorsCode != null? "\n\n" + constructorsCode : null,
-				methodsCode != null? "\n\n" + methodsCode : null,
-				innerClassesCode != null? "\n\n" + innerClassesCode : null,
-				"\n\n}"
-			);
+	Object[] getStructure() {
+		return new Object[] {
+			outerCode, annotations, modifier, classType, typeDeclaration, expands, expandedType,
+			concretize, concretizedTypes, fields, constructors, methods, innerClasses
+		};
+	}
+	
+	@Override
+	public void make(StringBuilder output) {
+		join(
+			output,
+			outerCode != null ? (Fragment)this::makeOuterCode : null,
+			annotations != null ? (Fragment)this::makeAnnotations : null,
+			Optional.ofNullable(modifier).map(mod -> Modifier.toString(this.modifier)).orElseGet(() -> null),
+			classType,
+			typeDeclaration,
+			expands,
+			expandedType,
+			concretize,
+			(Fragment)concretizedTypesOutput -> join(concretizedTypesOutput, concretizedTypes, ", "),
+			"{",
+			fields != null ? (Fragment)fieldsOutput -> makeMembersCode(fieldsOutput, fields, "\n") : null,
+			constructors != null ? (Fragment)constructorsOutput -> makeMembersCode(constructorsOutput, constructors, "\n\n") : null,
+			methods != null ? (Fragment)methodsOutput -> makeMembersCode(methodsOutput, methods, "\n\n") : null,
+			innerClasses != null ? (Fragment)this::makeInnerClassesCode : null,
+			"\n\n}"
+		);
 	}
 
-	protected String getOuterCode() {
-		return Optional.ofNullable(outerCode).map(outerCode ->
-			getOrEmpty(outerCode) +"\n"
-		).orElseGet(() -> null);
+	protected void makeOuterCode(StringBuilder output) {
+		join(output, outerCode, EMPTY_SPACE);
+		output.append("\n");
 	}
 	
 	Collection<TypeDeclarationSourceGenerator> getTypeDeclarations() {
@@ -324,23 +324,20 @@ public class Classes implements Component, MembersRetriever {
 	}
 	
 	public Field[] getDeclaredFields(Class<?> cls)  {
-		return Cache.classLoaderForFields.getOrUploadIfAbsent(
-			getClassLoader(cls), cls.getName().replace(".", "/"),
-			() -> LowLevelObjectsHandler.getDeclaredFields(cls)
+		return Cache.classForFields.getOrUploadIfAbsent(
+			cls, () -> LowLevelObjectsHandler.getDeclaredFields(cls)
 		);
 	}
 	
 	public Constructor<?>[] getDeclaredConstructors(Class<?> cls)  {
-		return Cache.classLoaderForConstructors.getOrUploadIfAbsent(
-			getClassLoader(cls), cls.getName().replace(".", "/"),
-			() -> LowLevelObjectsHandler.getDeclaredConstructors(cls)
+		return Cache.classForConstructors.getOrUploadIfAbsent(
+			cls, () -> LowLevelObjectsHandler.getDeclaredConstructors(cls)
 		);
 	}
 	
 	public Method[] getDeclaredMethods(Class<?> cls)  {
-		return Cache.classLoaderForMethods.getOrUploadIfAbsent(
-			getClassLoader(cls), cls.getName().replace(".", "/"),
-			() -> LowLevelObjectsHandler.getDeclaredMethods(cls)
+		return Cache.classForMethods.getOrUploadIfAbsent(
+			cls, () -> LowLevelObjectsHandler.getDeclaredMethods(cls)
 		);
 	}	
 
@@ -186,7 +186,7 @@ public class CodeExecutor implements Component {
 				)
 			) {
 				Class<? extends Executor> executableClass = loadOrBuildAndDefineExecutorSubType(
-					LoadOrBuildAndDefineConfig.ForCodeExecutor.withCode(body).useClassLoader(memoryClassLoader)
+					LoadOrBuildAndDefineConfig.ForCodeExecutor.withCode(body).useClassLoader(memoryClassLoader).useBuildPlanCache(false)
 				);
 				Executor executor = Constructors.newInstanceOf(executableClass);
 				T retrievedElement = executor.execute(parameters);
@@ -49,6 +49,11 @@ public class ConstructorCriteria extends ExecutableMemberCriteria<
 		return new ConstructorCriteria();
 	}
 	
+	@Override
+	protected ConstructorCriteria newInstance() {
+		return new ConstructorCriteria();
+	}
+	
 	@Override
 	public Function<Class<?>, Constructor<?>[]> getMembersSupplierFunction() {
 		return Classes::getDeclaredConstructors;
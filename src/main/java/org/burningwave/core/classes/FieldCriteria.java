@@ -51,6 +51,11 @@ public class FieldCriteria extends MemberCriteria<
 		return new FieldCriteria();
 	}
 	
+	@Override
+	protected FieldCriteria newInstance() {
+		return new FieldCriteria();
+	}
+	
 	@Override
 	public Function<Class<?>, Field[]> getMembersSupplierFunction() {
 		return Classes::getDeclaredFields;
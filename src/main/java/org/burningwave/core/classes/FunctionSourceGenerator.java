@@ -61,6 +61,7 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 	
 	FunctionSourceGenerator setName(String name) {
 		this.name = name;
+		markAsModified();
 		return this;
 	}
 	
@@ -70,21 +71,25 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 		} else {
 			this.modifier |= modifier; 
 		}
+		markAsModified();
 		return this;
 	}
 	
 	public FunctionSourceGenerator setDefault() {
 		this.defaultFunction = true;
+		markAsModified();
 		return this;
 	}
 	
 	public FunctionSourceGenerator setTypeDeclaration(TypeDeclarationSourceGenerator typesDeclaration) {
 		this.typesDeclaration = typesDeclaration;
+		markAsModified();
 		return this;
 	}
 	
 	public FunctionSourceGenerator setReturnType(String name) {
 		this.returnType = TypeDeclarationSourceGenerator.create(name);
+		markAsModified();
 		return this;
 	}
 	
@@ -94,6 +99,7 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 	
 	public FunctionSourceGenerator setReturnType(TypeDeclarationSourceGenerator returnType) {
 		this.returnType = returnType;
+		markAsModified();
 		return this;
 	}
 	
@@ -103,6 +109,7 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 	
 	public FunctionSourceGenerator setReturnType(java.lang.Class<?> returnType) {
 		this.returnType = TypeDeclarationSourceGenerator.create(returnType);
+		markAsModified();
 		return this;
 	}
 	
@@ -111,6 +118,7 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 		for (VariableSourceGenerator parameter : parameters) {
 			this.parameters.add(parameter.setDelimiter(null));
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -119,6 +127,7 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 		for (TypeDeclarationSourceGenerator throwable : throwables) {
 			this.throwables.add(throwable);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -135,6 +144,7 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 				this.outerCode.add(code);
 			}
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -143,18 +153,21 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 		for (AnnotationSourceGenerator annotation : annotations) {
 			this.annotations.add(annotation);
 		}
+		markAsModified();
 		return this;
 	}
 	
 	public FunctionSourceGenerator addBodyCode(String... codes) {
 		this.body = Optional.ofNullable(this.body).orElseGet(BodySourceGenerator::create);
 		this.body.addCode(codes);
+		markAsModified();
 		return this;
 	}
 	
 	public FunctionSourceGenerator addBodyCodeRow(String... code) {
 		this.body = Optional.ofNullable(this.body).orElseGet(BodySourceGenerator::create);
 		this.body.addCodeRow(code);
+		markAsModified();
 		return this;
 	}
 	
@@ -163,6 +176,7 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 		for (SourceGenerator generator : generators) {
 			this.body.addElement(generator);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -171,25 +185,29 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 		for (Class<?> cls : classes) {
 			usedTypes.add(TypeDeclarationSourceGenerator.create(cls));
 		}
+		markAsModified();
 		return this;		
 	}
 
-	private String getParametersCode() {
-		String paramsCode = "(";
+	private void makeNameAndParameters(StringBuilder output) {
+		output.append(name).append("(");
 		if (parameters != null) {
-			paramsCode += "\n";
+			output.append("\n");
 			Iterator<VariableSourceGenerator> paramsIterator =  parameters.iterator();
 			while (paramsIterator.hasNext()) {
 				VariableSourceGenerator param = paramsIterator.next();
-				paramsCode += "\t" + param.make().replace("\n", "\n\t");
+				output.append("\t");
+				int start = output.length();
+				param.make(output);
+				indent(output, start, false);
 				if (paramsIterator.hasNext()) {
-					paramsCode += COMMA + "\n";
+					output.append(COMMA).append("\n");
 				} else {
-					paramsCode += "\n";
+					output.append("\n");
 				}
 			}
 		}
-		return paramsCode + ")";
+		output.append(")");
 	}
 	
 	Collection<TypeDeclarationSourceGenerator> getTypeDeclarations() {
@@ -224,35 +242,45 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 		return types;
 	}
 	
-	private String getAnnotations() {
-		return Optional.ofNullable(annotations).map(annts -> getOrEmpty(annts, "\n") +"\n").orElseGet(() -> null);
+	private void makeAnnotations(StringBuilder output) {
+		join(output, annotations, "\n");
+		output.append("\n");
 	}
 	
-	private String getThrowables() {
-		return Optional.ofNullable(throwables).map(thrws -> "throws "  + getOrEmpty(thrws, ", ")).orElseGet(() -> null);
+	private void makeThrowables(StringBuilder output) {
+		output.append("throws ");
+		join(output, throwables, ", ");
 	}
 	
 	private String getModifier() {
 		return Optional.ofNullable(modifier).map(mod -> Modifier.toString(this.modifier)).orElseGet(() -> null);
 	}
 
-	private String getOuterCode() {
-		return Optional.ofNullable(outerCode).map(outerCode ->
-			getOrEmpty(outerCode) + "\n"
-		).orElseGet(() -> null);
+	private void makeOuterCode(StringBuilder output) {
+		join(output, outerCode, EMPTY_SPACE);
+		output.append("\n");
 	}
 	
 	@Override
-	public String make() {
-		return getOrEmpty(
-			getOuterCode(),
-			getAnnotations(),
+	Object[] getStructure() {
+		return new Object[] {
+			usedTypes, outerCode, annotations, throwables, modifier, defaultFunction,
+			typesDeclaration, returnType, name, parameters, body
+		};
+	}
+	
+	@Override
+	public void make(StringBuilder output) {
+		join(
+			output,
+			outerCode != null ? (Fragment)this::makeOuterCode : null,
+			annotations != null ? (Fragment)this::makeAnnotations : null,
 			getModifier(),
 			defaultFunction ? "default" : null,
 			typesDeclaration,
 			returnType,
-			name + getParametersCode(),
-			getThrowables(),
+			(Fragment)this::makeNameAndParameters,
+			throwables != null ? (Fragment)this::makeThrowables : null,
 			body,
 			Optional.ofNullable(modifier).map(mod -> Modifier.isAbstract(mod)? ";" : null).orElseGet(() -> null)
 		);
@@ -38,17 +38,92 @@ import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.function.ThrowingSupplier;
 
 public class FunctionalInterfaceFactory implements Component {
+	private final static Map<MethodType, Map.Entry<Class<?>, String>> PRIMITIVE_FUNCTIONAL_INTERFACES;
+	
+	static {
+		PRIMITIVE_FUNCTIONAL_INTERFACES = new HashMap<>();
+		registerPrimitiveFunctionalInterface(IntSupplier.class, "getAsInt", int.class);
+		registerPrimitiveFunctionalInterface(LongSupplier.class, "getAsLong", long.class);
+		registerPrimitiveFunctionalInterface(DoubleSupplier.class, "getAsDouble", double.class);
+		registerPrimitiveFunctionalInterface(BooleanSupplier.class, "getAsBoolean", boolean.class);
+		registerPrimitiveFunctionalInterface(IntConsumer.class, "accept", void.class, int.class);
+		registerPrimitiveFunctionalInterface(LongConsumer.class, "accept", void.class, long.class);
+		registerPrimitiveFunctionalInterface(DoubleConsumer.class, "accept", void.class, double.class);
+		registerPrimitiveFunctionalInterface(IntPredicate.class, "test", boolean.class, int.class);
+		registerPrimitiveFunctionalInterface(LongPredicate.class, "test", boolean.class, long.class);
+		registerPrimitiveFunctionalInterface(DoublePredicate.class, "test", boolean.class, double.class);
+		registerPrimitiveFunctionalInterface(IntFunction.class, "apply", Object.class, int.class);
+		registerPrimitiveFunctionalInterface(LongFunction.class, "apply", Object.class, long.class);
+		registerPrimitiveFunctionalInterface(DoubleFunction.class, "apply", Object.class, double.class);
+		registerPrimitiveFunctionalInterface(IntUnaryOperator.class, "applyAsInt", int.class, int.class);
+		registerPrimitiveFunctionalInterface(LongUnaryOperator.class, "applyAsLong", long.class, long.class);
+		registerPrimitiveFunctionalInterface(DoubleUnaryOperator.class, "applyAsDouble", double.class, double.class);
+		registerPrimitiveFunctionalInterface(IntToLongFunction.class, "applyAsLong", long.class, int.class);
+		registerPrimitiveFunctionalInterface(IntToDoubleFunction.class, "applyAsDouble", double.class, int.class);
+		registerPrimitiveFunctionalInterface(LongToIntFunction.class, "applyAsInt", int.class, long.class);
+		registerPrimitiveFunctionalInterface(LongToDoubleFunction.class, "applyAsDouble", double.class, long.class);
+		registerPrimitiveFunctionalInterface(DoubleToIntFunction.class, "applyAsInt", int.class, double.class);
+		registerPrimitiveFunctionalInterface(DoubleToLongFunction.class, "applyAsLong", long.class, double.class);
+		registerPrimitiveFunctionalInterface(IntBinaryOperator.class, "applyAsInt", int.class, int.class, int.class);
+		registerPrimitiveFunctionalInterface(LongBinaryOperator.class, "applyAsLong", long.class, long.class, long.class);
+		registerPrimitiveFunctionalInterface(DoubleBinaryOperator.class, "applyAsDouble", double.class, double.class, double.class);
+		registerPrimitiveFunctionalInterface(ToIntFunction.class, "applyAsInt", int.class, Object.class);
+		registerPrimitiveFunctionalInterface(ToLongFunction.class, "applyAsLong", long.class, Object.class);
+		registerPrimitiveFunctionalInterface(ToDoubleFunction.class, "applyAsDouble", double.class, Object.class);
+		registerPrimitiveFunctionalInterface(ToIntBiFunction.class, "applyAsInt", int.class, Object.class, Object.class);
+		registerPrimitiveFunctionalInterface(ToLongBiFunction.class, "applyAsLong", long.class, Object.class, Object.class);
+		registerPrimitiveFunctionalInterface(ToDoubleBiFunction.class, "applyAsDouble", double.class, Object.class, Object.class);
+		registerPrimitiveFunctionalInterface(ObjIntConsumer.class, "accept", void.class, Object.class, int.class);
+		registerPrimitiveFunctionalInterface(ObjLongConsumer.class, "accept", void.class, Object.class, long.class);
+		registerPrimitiveFunctionalInterface(ObjDoubleConsumer.class, "accept", void.class, Object.class, double.class);
+	}
+	
 	private ClassFactory classFactory;
 	
 	private FunctionalInterfaceFactory(ClassFactory classFactory) {
@@ -75,6 +150,58 @@ public class FunctionalInterfaceFactory implements Component {
 		return null;
 	}
 
+	@SuppressWarnings("unchecked")
+	public <F> F createPrimitiveSpecialized(Method targetMethod) throws Throwable {
+		MethodType methodType = toErasedMethodType(targetMethod);
+		if (!isPrimitiveSpecializable(methodType)) {
+			return create(targetMethod);
+		}
+		return (F) Cache.bindedPrimitiveFunctionalInterfaces.getOrUploadIfAbsent(targetMethod, () -> 
+			ThrowingSupplier.get(() ->
+				bindTo(
+					targetMethod, () -> {
+						Map.Entry<Class<?>, String> functionalInterfaceBag = PRIMITIVE_FUNCTIONAL_INTERFACES.get(methodType);
+						if (functionalInterfaceBag != null) {
+							return functionalInterfaceBag;
+						}
+						Class<?> functionalInterface = classFactory.loadOrBuildAndDefinePrimitiveFunctionalInterface(
+							targetMethod.getDeclaringClass().getClassLoader(), methodType.returnType(), methodType.parameterArray()
+						);
+						return new AbstractMap.SimpleEntry<>(functionalInterface, functionalInterface.getDeclaredMethods()[0].getName());
+					},
+					methodHandle ->
+						methodHandle.type().erase()
+				)
+			)
+		);
+	}
+	
+	private MethodType toErasedMethodType(Method targetMethod) {
+		MethodType methodType = MethodType.methodType(targetMethod.getReturnType(), targetMethod.getParameterTypes());
+		if (!Modifier.isStatic(targetMethod.getModifiers())) {
+			methodType = methodType.insertParameterTypes(0, Object.class);
+		}
+		return methodType.erase();
+	}
+	
+	private boolean isPrimitiveSpecializable(MethodType methodType) {
+		for (Class<?> parameterType : methodType.parameterArray()) {
+			if (parameterType.isPrimitive()) {
+				return true;
+			}
+		}
+		Class<?> returnType = methodType.returnType();
+		return returnType.isPrimitive() && returnType != void.class &&
+			(returnType != boolean.class || methodType.parameterCount() == 0);
+	}
+	
+	private static void registerPrimitiveFunctionalInterface(Class<?> functionalInterface, String methodName, Class<?> returnType, Class<?>... parameterTypes) {
+		PRIMITIVE_FUNCTIONAL_INTERFACES.put(
+			MethodType.methodType(returnType, parameterTypes),
+			new AbstractMap.SimpleEntry<>(functionalInterface, methodName)
+		);
+	}
+
 	@SuppressWarnings("unchecked")
 	protected <F> F getBindedRunnable(Method targetMethod) {
 		return (F) Cache.bindedFunctionalInterfaces.getOrUploadIfAbsent(targetMethod, () -> 
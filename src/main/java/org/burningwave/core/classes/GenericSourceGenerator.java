@@ -63,6 +63,7 @@ public class GenericSourceGenerator extends SourceGenerator.Abst {
 		for (String code : codes) {
 			this.outerCode.add(code);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -71,6 +72,7 @@ public class GenericSourceGenerator extends SourceGenerator.Abst {
 		for (AnnotationSourceGenerator annotation : annotations) {
 			this.annotations.add(annotation);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -80,6 +82,7 @@ public class GenericSourceGenerator extends SourceGenerator.Abst {
 		for (TypeDeclarationSourceGenerator hirearchyElement : hirearchyElements) {
 			this.hirearchyElements.add(hirearchyElement);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -87,6 +90,7 @@ public class GenericSourceGenerator extends SourceGenerator.Abst {
 		hirearchyOperator = "super";
 		this.hirearchyElements = Optional.ofNullable(this.hirearchyElements).orElseGet(ArrayList::new);
 		this.hirearchyElements.add(hirearchyElement);
+		markAsModified();
 		return this;
 	}
 	
@@ -108,13 +112,21 @@ public class GenericSourceGenerator extends SourceGenerator.Abst {
 		return types;
 	}
 	
-	private String getAnnotations() {
-		return Optional.ofNullable(annotations).map(annts -> getOrEmpty(annts)).orElseGet(() -> null);
+	@Override
+	Object[] getStructure() {
+		return new Object[] {outerCode, annotations, type, name, hirearchyOperator, hirearchyElements};
 	}
 	
 	@Override
-	public String make() {
-		return getOrEmpty(outerCode, getAnnotations(), name, hirearchyOperator, getOrEmpty(hirearchyElements, " & "));
+	public void make(StringBuilder output) {
+		join(
+			output,
+			outerCode,
+			annotations != null ? (Fragment)annotationsOutput -> join(annotationsOutput, annotations, EMPTY_SPACE) : null,
+			name,
+			hirearchyOperator,
+			(Fragment)hirearchyOutput -> join(hirearchyOutput, hirearchyElements, " & ")
+		);
 	}
 
 }
@@ -111,7 +111,35 @@ public class JavaMemoryCompiler implements Component {
 		boolean storeCompiledClasses
 	) {
 		Collection<JavaMemoryCompiler.MemorySource> memorySources = new ArrayList<>();
-		sourcesToMemorySources(sources, memorySources);
+		for (String source : sources) {
+			addMemorySource(memorySources, SourceCodeHandler.extractClassName(source), source);
+		}
+		return compileMemorySources(memorySources, classPaths, classRepositoriesPaths, storeCompiledClasses);
+	}
+	
+	public Map<String, ByteBuffer> compile(
+		Map<String, String> sourcesByClassName, 
+		Collection<String> classPaths, 
+		Collection<String> classRepositoriesPaths,
+		boolean storeCompiledClasses
+	) {
+		Collection<JavaMemoryCompiler.MemorySource> memorySources = new ArrayList<>();
+		sourcesByClassName.forEach((className, source) -> {
+			addMemorySource(
+				memorySources,
+				className != null ? className : SourceCodeHandler.extractClassName(source),
+				source
+			);
+		});
+		return compileMemorySources(memorySources, classPaths, classRepositoriesPaths, storeCompiledClasses);
+	}
+	
+	private Map<String, ByteBuffer> compileMemorySources(
+		Collection<JavaMemoryCompiler.MemorySource> memorySources, 
+		Collection<String> classPaths, 
+		Collection<String> classRepositoriesPaths,
+		boolean storeCompiledClasses
+	) {
 		try (Compilation.Context context = Compilation.Context.create(this, classPathHunter, memorySources, new ArrayList<>(classPaths), new ArrayList<>(classRepositoriesPaths))) {
 			Map<String, ByteBuffer> compiledFiles = _compile(context, null);
 			if (!compiledFiles.isEmpty() && storeCompiledClasses) {
@@ -125,16 +153,12 @@ public class JavaMemoryCompiler implements Component {
 	}
 
 	
-	private void sourcesToMemorySources(Collection<String> sources, Collection<MemorySource> memorySources) {
-		for (String source : sources) {
-			String className = SourceCodeHandler.extractClassName(source);
-			try {
-				memorySources.add(new MemorySource(Kind.SOURCE, className, source));
-			} catch (URISyntaxException eXC) {
-				throw Throwables.toRuntimeException("Class name \"" + className + "\" is not valid");
-			}
+	private void addMemorySource(Collection<MemorySource> memorySources, String className, String source) {
+		try {
+			memorySources.add(new MemorySource(Kind.SOURCE, className, source));
+		} catch (URISyntaxException eXC) {
+			throw Throwables.toRuntimeException("Class name \"" + className + "\" is not valid");
 		}
-		
 	}
 
 
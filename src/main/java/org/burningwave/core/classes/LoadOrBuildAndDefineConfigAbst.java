@@ -13,6 +13,7 @@ class LoadOrBuildAndDefineConfigAbst<L extends LoadOrBuildAndDefineConfigAbst<L>
 	private ClassLoader classLoader;
 	private boolean useOneShotJavaCompiler;
 	private boolean storeCompiledClasses;
+	private boolean useBuildPlanCache = true;
 		
 	@SafeVarargs LoadOrBuildAndDefineConfigAbst(UnitSourceGenerator... unitsCode) {
 		this(Arrays.asList(unitsCode));
@@ -108,6 +109,12 @@ class LoadOrBuildAndDefineConfigAbst<L extends LoadOrBuildAndDefineConfigAbst<L>
 		return (L)this;
 	}
 	
+	@SuppressWarnings("unchecked")
+	public L useBuildPlanCache(boolean flag) {
+		this.useBuildPlanCache = flag;
+		return (L)this;
+	}
+	
 	Collection<String> getCompilationClassPaths() {
 		return compilationClassPaths;
 	}
@@ -135,4 +142,8 @@ class LoadOrBuildAndDefineConfigAbst<L extends LoadOrBuildAndDefineConfigAbst<L>
 	boolean isStoreCompiledClasses() {
 		return storeCompiledClasses;
 	}
+	
+	boolean isUseBuildPlanCache() {
+		return useBuildPlanCache;
+	}
 }
\ No newline at end of file
@@ -312,9 +312,6 @@ public class MemoryClassLoader extends ClassLoader implements Component {
 	
 	protected void unregister() {
 		ClassLoaders.unregister(this);
-		Cache.classLoaderForConstructors.remove(this);
-		Cache.classLoaderForFields.remove(this);
-		Cache.classLoaderForMethods.remove(this);
 	}
 	
 	@Override
@@ -50,6 +50,11 @@ public class MethodCriteria extends ExecutableMemberCriteria<
 		return new MethodCriteria();
 	}
 	
+	@Override
+	protected MethodCriteria newInstance() {
+		return new MethodCriteria();
+	}
+	
 	@Override
 	public Function<Class<?>, Method[]> getMembersSupplierFunction() {
 		return  Classes::getDeclaredMethods;
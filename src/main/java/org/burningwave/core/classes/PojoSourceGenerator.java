@@ -118,19 +118,21 @@ public class PojoSourceGenerator {
 			for (Constructor<?> constructor : Classes.getDeclaredConstructors(superClass, constructor -> 
 				modifierTester.test(constructor))
 			) {
-				Integer modifiers = constructor.getModifiers();
+				Integer modifiers = constructor.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED);
 				if (isBuildingMethodsCreationEnabled(options)) {
 					if (Modifier.isPublic(modifiers)) {
 						modifiers ^= Modifier.PUBLIC;
 					}
 				}
-				cls.addConstructor(
-					create(
-						classSimpleName, constructor, modifiers, (funct, params) ->
-						funct.addBodyCodeRow("super(" + String.join(", ", params) + ");"),
-						isUseFullyQualifiedClassNamesEnabled(options)
-					)
+				FunctionSourceGenerator constructorSG = create(
+					classSimpleName, constructor, modifiers, (funct, params) ->
+					funct.addBodyCodeRow("super(" + String.join(", ", params) + ");"),
+					isUseFullyQualifiedClassNamesEnabled(options)
 				);
+				if (modifiers != 0) {
+					constructorSG.addModifier(modifiers);
+				}
+				cls.addConstructor(constructorSG);
 				if (isBuildingMethodsCreationEnabled(options)) {
 					cls.addMethod(
 						create(
@@ -248,7 +248,7 @@ public class SearchContext<T> implements Component {
 	
 	<C extends SearchConfigAbst<C>> ClassCriteria.TestContext testCriteria(Class<?> cls) {
 		return (ClassCriteria.TestContext) execute(
-			() -> searchConfig.getClassCriteria().testAndReturnFalseIfNullOrTrueByDefault(cls), 
+			() -> searchConfig.getClassCriteria().testRecyclingContextAndReturnFalseIfNullOrTrueByDefault(cls), 
 			() -> searchConfig.getClassCriteria().testAndReturnFalseIfNullOrFalseByDefault(null), 
 			() -> cls.getName()
 		);
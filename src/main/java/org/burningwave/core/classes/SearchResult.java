@@ -56,7 +56,7 @@ public class SearchResult<E> implements Component {
 		Map<String, E> itemsFound = new HashMap<>();
 		final C criteriaCopy = createCriteriaCopy(criteria);
 		getItemsFoundFlatMap().forEach((path, javaClass) -> {
-			if (criteriaCopy.testAndReturnFalseIfNullOrTrueByDefault(javaClass).getResult()) {
+			if (criteriaCopy.testRecyclingContextAndReturnFalseIfNullOrTrueByDefault(javaClass).getResult()) {
 				itemsFound.put(path, javaClass);
 			}
 		});
@@ -67,7 +67,7 @@ public class SearchResult<E> implements Component {
 		Map<String, E> itemsFound = new HashMap<>();
 		final C criteriaCopy = createCriteriaCopy(criteria);
 		getItemsFoundFlatMap().forEach((path, javaClass) -> {
-			if (criteriaCopy.testAndReturnFalseIfNullOrTrueByDefault(javaClass).getResult()) {
+			if (criteriaCopy.testRecyclingContextAndReturnFalseIfNullOrTrueByDefault(javaClass).getResult()) {
 				itemsFound.put(path, javaClass);
 			}
 		});
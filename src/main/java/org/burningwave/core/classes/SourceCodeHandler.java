@@ -29,12 +29,9 @@
 package org.burningwave.core.classes;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
-import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
 import java.lang.reflect.Modifier;
-import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.Executor;
@@ -51,17 +48,95 @@ public class SourceCodeHandler implements Component {
 	}
 	
 	public String extractClassName(String classCode) {
-		return
-			Optional.ofNullable(
-				Strings.extractAllGroups(
-					Pattern.compile("(package)\\s*([[a-zA-Z0-9\\s]*\\.?]*)"), classCode
-				).get(2).get(0)
-			).map(
-				value -> value + "."
-			).orElse("") +
-			Strings.extractAllGroups(
-				Pattern.compile("(?<=\\n|\\A)(?:public\\s*)?(class|interface|enum)\\s*([^\\n\\s<]*)"), classCode
-			).get(2).get(0);
+		String packageName = null;
+		char previousToken = 0;
+		int index = skipBlanksAndComments(classCode, 0);
+		while (index < classCode.length()) {
+			char chr = classCode.charAt(index);
+			if (Character.isJavaIdentifierStart(chr)) {
+				int wordEnd = identifierEnd(classCode, index);
+				String word = classCode.substring(index, wordEnd);
+				index = wordEnd;
+				if (previousToken != '.') {
+					if (packageName == null && word.equals("package")) {
+						StringBuilder packageNameBuilder = new StringBuilder();
+						index = readQualifiedName(classCode, index, packageNameBuilder);
+						packageName = packageNameBuilder.toString();
+					} else if (word.equals("class") || word.equals("interface") || word.equals("enum")) {
+						index = skipBlanksAndComments(classCode, index);
+						String simpleName = classCode.substring(index, identifierEnd(classCode, index));
+						if (!simpleName.isEmpty()) {
+							return packageName != null && !packageName.isEmpty() ? packageName + "." + simpleName : simpleName;
+						}
+					}
+				}
+				previousToken = 'a';
+			} else if (chr == '"' || chr == '\'') {
+				index = skipLiteral(classCode, index);
+				previousToken = chr;
+			} else {
+				previousToken = chr;
+				index++;
+			}
+			index = skipBlanksAndComments(classCode, index);
+		}
+		throw Throwables.toRuntimeException("Could not extract class name from source:\n" + classCode);
+	}
+	
+	private int readQualifiedName(String code, int index, StringBuilder output) {
+		while (true) {
+			index = skipBlanksAndComments(code, index);
+			int wordEnd = identifierEnd(code, index);
+			output.append(code, index, wordEnd);
+			index = skipBlanksAndComments(code, wordEnd);
+			if (index >= code.length() || code.charAt(index) != '.') {
+				return index;
+			}
+			output.append('.');
+			index++;
+		}
+	}
+	
+	private int identifierEnd(String code, int index) {
+		if (index < code.length() && Character.isJavaIdentifierStart(code.charAt(index))) {
+			index++;
+			while (index < code.length() && Character.isJavaIdentifierPart(code.charAt(index))) {
+				index++;
+			}
+		}
+		return index;
+	}
+	
+	private int skipLiteral(String code, int index) {
+		char delimiter = code.charAt(index++);
+		while (index < code.length()) {
+			char chr = code.charAt(index++);
+			if (chr == '\\') {
+				index++;
+			} else if (chr == delimiter || chr == '\n') {
+				break;
+			}
+		}
+		return index;
+	}
+	
+	private int skipBlanksAndComments(String code, int index) {
+		int length = code.length();
+		while (index < length) {
+			char chr = code.charAt(index);
+			if (Character.isWhitespace(chr)) {
+				index++;
+			} else if (chr == '/' && index + 1 < length && code.charAt(index + 1) == '/') {
+				int lineEnd = code.indexOf('\n', index + 2);
+				index = lineEnd < 0 ? length : lineEnd + 1;
+			} else if (chr == '/' && index + 1 < length && code.charAt(index + 1) == '*') {
+				int commentEnd = code.indexOf("*/", index + 2);
+				index = commentEnd < 0 ? length : commentEnd + 2;
+			} else {
+				break;
+			}
+		}
+		return index;
 	}
 
 	public UnitSourceGenerator generateExecutor(String className, BodySourceGenerator body) {
@@ -28,17 +28,25 @@
  */
 package org.burningwave.core.classes;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 public interface SourceGenerator {
 	
 	public String make();
 	
+	public default void make(StringBuilder output) {
+		String value = make();
+		if (value != null) {
+			output.append(value);
+		}
+	}
+	
 	public default <F> String _toString() {
 		return make();
 	}
@@ -48,47 +56,216 @@ public interface SourceGenerator {
 		static final String COMMA = ",";
 		static final String SEMICOLON = ";";
 		
+		private static final AtomicLongFieldUpdater<Abst> STAMP_UPDATER =
+			AtomicLongFieldUpdater.newUpdater(Abst.class, "stamp");
+		
+		private volatile long stamp;
+		private long linkedStamp = -1;
+		private Set<Abst> parents;
+		private int sizeHint = 16;
+		private volatile Stamped<String> code;
+		private volatile Stamped<Integer> structuralHashCode;
+		
+		void markAsModified() {
+			STAMP_UPDATER.incrementAndGet(this);
+			Set<Abst> parents = this.parents;
+			if (parents != null) {
+				Abst[] parentsArray;
+				synchronized (parents) {
+					parentsArray = parents.toArray(new Abst[parents.size()]);
+				}
+				for (Abst parent : parentsArray) {
+					parent.markAsModified();
+				}
+			}
+		}
+		
+		private void linkChildren() {
+			long stamp = this.stamp;
+			if (linkedStamp == stamp) {
+				return;
+			}
+			for (Object element : getStructure()) {
+				linkChild(element);
+			}
+			linkedStamp = stamp;
+		}
+		
+		private void linkChild(Object element) {
+			if (element instanceof Abst) {
+				Abst child = (Abst)element;
+				Set<Abst> parents = child.parents;
+				if (parents == null) {
+					synchronized (child) {
+						if ((parents = child.parents) == null) {
+							child.parents = parents = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+						}
+					}
+				}
+				parents.add(this);
+				child.linkChildren();
+			} else if (element instanceof Collection) {
+				for (Object child : (Collection<?>)element) {
+					linkChild(child);
+				}
+			}
+		}
+		
 		@Override
-		public String toString() {
-			return make();
+		public String make() {
+			long stamp = this.stamp;
+			Stamped<String> code = this.code;
+			if (code != null && code.stamp == stamp) {
+				return code.value;
+			}
+			linkChildren();
+			StringBuilder output = new StringBuilder(sizeHint);
+			make(output);
+			sizeHint = Math.max(sizeHint, output.length());
+			String value = output.toString();
+			this.code = new Stamped<>(value, stamp);
+			return value;
+		}
+		
+		@Override
+		public abstract void make(StringBuilder output);
+		
+		public int structuralHashCode() {
+			long stamp = this.stamp;
+			Stamped<Integer> structuralHashCode = this.structuralHashCode;
+			if (structuralHashCode != null && structuralHashCode.stamp == stamp) {
+				return structuralHashCode.value;
+			}
+			linkChildren();
+			int value = hash(getStructure());
+			this.structuralHashCode = new Stamped<>(value, stamp);
+			return value;
+		}
+		
+		abstract Object[] getStructure();
+		
+		int hash(Object... values) {
+			int hashCode = getClass().getName().hashCode();
+			for (Object value : values) {
+				hashCode = 31 * hashCode + hashOf(value);
+			}
+			return hashCode;
 		}
 		
-		String getOrEmpty(SourceGenerator value) {
-			return Optional.ofNullable(value.make()).orElseGet(() -> "");
+		private int hashOf(Object value) {
+			if (value instanceof Abst) {
+				return ((Abst)value).structuralHashCode();
+			} else if (value instanceof SourceGenerator) {
+				return Objects.hashCode(((SourceGenerator)value).make());
+			} else if (value instanceof Collection) {
+				int hashCode = 1;
+				for (Object element : (Collection<?>)value) {
+					hashCode = 31 * hashCode + hashOf(element);
+				}
+				return hashCode;
+			}
+			return Objects.hashCode(value);
 		}
 		
-		String getOrEmpty(String value) {
-			return Optional.ofNullable(value).orElseGet(() -> "");
+		@Override
+		public String toString() {
+			return make();
 		}
 		
-		String getOrEmpty(Object... values) {
-			return getOrEmpty(Arrays.asList(values));
+		void join(StringBuilder output, Object... values) {
+			join(output, Arrays.asList(values), EMPTY_SPACE);
+		}
+		
+		void join(StringBuilder output, Collection<?> values, String separator) {
+			if (values == null) {
+				return;
+			}
+			int start = output.length();
+			boolean atLeastOneElementAppended = false;
+			for (Object value : values) {
+				if (value == null || "".equals(value)) {
+					continue;
+				}
+				int mark = output.length();
+				if (atLeastOneElementAppended && !endsWithTabOrNewLine(output, start)) {
+					output.append(separator);
+				}
+				int elementStart = output.length();
+				if (value instanceof SourceGenerator) {
+					((SourceGenerator)value).make(output);
+				} else if (value instanceof String) {
+					output.append((String)value);
+				} else if (value instanceof Collection) {
+					join(output, (Collection<?>)value, separator);
+				} else if (value instanceof Fragment) {
+					((Fragment)value).appendTo(output);
+					if (output.length() == elementStart) {
+						output.setLength(mark);
+						continue;
+					}
+				}
+				atLeastOneElementAppended = true;
+			}
 		}
 		
-		String getOrEmpty(Collection<?> objects) {
-			return getOrEmpty(objects, EMPTY_SPACE);
+		private boolean endsWithTabOrNewLine(StringBuilder output, int start) {
+			if (output.length() > start) {
+				char lastChar = output.charAt(output.length() - 1);
+				return lastChar == '\t' || lastChar == '\n';
+			}
+			return false;
 		}
 		
-		String getOrEmpty(Collection<?> objects, String separator) {
-			String value = "";
-			objects = Optional.ofNullable(objects).map(objs -> new ArrayList<>(objs)).orElseGet(ArrayList::new);
-			objects.removeAll(Collections.singleton(null));
-			objects.removeAll(Collections.singleton(""));
-			Iterator<?> objectsItr = objects.iterator();
-			while (objectsItr.hasNext()) {
-				Object object = objectsItr.next();
-				if (object instanceof SourceGenerator) {
-					value += getOrEmpty((SourceGenerator)object);
-				} else if (object instanceof String) {
-					value += getOrEmpty((String)object);
-				} else if (object instanceof Collection) {
-					value += getOrEmpty((Collection<?>)object, separator);
+		void indent(StringBuilder output, int start, boolean skipEmptyLines) {
+			int newLinesCount = 0;
+			int length = output.length();
+			for (int i = start; i < length; i++) {
+				if (isIndentable(output, i, length, skipEmptyLines)) {
+					++newLinesCount;
 				}
-				if (objectsItr.hasNext() && !value.endsWith("\t") && !value.endsWith("\n")) {
-					value += separator;
+			}
+			if (newLinesCount == 0) {
+				return;
+			}
+			output.setLength(length + newLinesCount);
+			for (int i = length - 1, j = length + newLinesCount - 1; newLinesCount > 0; i--) {
+				if (isIndentable(output, i, length, skipEmptyLines)) {
+					output.setCharAt(j--, '\t');
+					--newLinesCount;
 				}
+				output.setCharAt(j--, output.charAt(i));
 			}
-			return value;
-		}		
+		}
+		
+		private boolean isIndentable(StringBuilder output, int index, int length, boolean skipEmptyLines) {
+			if (output.charAt(index) != '\n') {
+				return false;
+			}
+			if (!skipEmptyLines) {
+				return true;
+			}
+			if (index + 1 >= length) {
+				return false;
+			}
+			char nextChar = output.charAt(index + 1);
+			return nextChar != '\n' && nextChar != '\r' && nextChar != '\u0085' && nextChar != '\u2028' && nextChar != '\u2029';
+		}
+		
+		@FunctionalInterface
+		static interface Fragment {
+			
+			public void appendTo(StringBuilder output);
+			
+		}
+		
+		private static class Stamped<V> {
+			private final V value;
+			private final long stamp;
+			
+			private Stamped(V value, long stamp) {
+				this.value = value;
+				this.stamp = stamp;
+			}
+		}
 	}
 }
@@ -72,6 +72,7 @@ public class TypeDeclarationSourceGenerator extends SourceGenerator.Abst {
 	public TypeDeclarationSourceGenerator addGeneric(GenericSourceGenerator... generics) {
 		this.generics = Optional.ofNullable(this.generics).orElseGet(ArrayList::new);
 		this.generics.addAll(Arrays.asList(generics));
+		markAsModified();
 		return this;
 	}
 	
@@ -87,8 +88,19 @@ public class TypeDeclarationSourceGenerator extends SourceGenerator.Abst {
 	}
 	
 	@Override
-	public String make() {
-		return getOrEmpty(simpleName)  + Optional.ofNullable(generics).map(generics -> 
-		"<" + getOrEmpty(generics, COMMA + EMPTY_SPACE) + ">").orElseGet(() -> "");
+	Object[] getStructure() {
+		return new Object[] {name, simpleName, generics};
+	}
+	
+	@Override
+	public void make(StringBuilder output) {
+		if (simpleName != null) {
+			output.append(simpleName);
+		}
+		if (generics != null) {
+			output.append("<");
+			join(output, generics, COMMA + EMPTY_SPACE);
+			output.append(">");
+		}
 	}	
 }
\ No newline at end of file
@@ -63,6 +63,7 @@ public class UnitSourceGenerator extends SourceGenerator.Abst {
 		for (String imprt : imports) {
 			this.imports.add(imprt);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -70,6 +71,7 @@ public class UnitSourceGenerator extends SourceGenerator.Abst {
 		for (String innerElement : innerElements) {
 			addStaticImport(cls.getName() + "." + innerElement);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -78,6 +80,7 @@ public class UnitSourceGenerator extends SourceGenerator.Abst {
 		for (String imprt : imports) {
 			this.imports.add("static " + imprt);
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -85,6 +88,7 @@ public class UnitSourceGenerator extends SourceGenerator.Abst {
 		for (java.lang.Class<?> cls : classes) {
 			this.addImport(cls.getName());
 		}
+		markAsModified();
 		return this;
 	}
 	
@@ -93,6 +97,7 @@ public class UnitSourceGenerator extends SourceGenerator.Abst {
 		for (ClassSourceGenerator cls : clazzes) {
 			classes.add(cls);
 		}
+		markAsModified();
 		return this;
 	}
 
@@ -141,12 +146,39 @@ public class UnitSourceGenerator extends SourceGenerator.Abst {
 	}
 	
 	@Override
-	public String make() {
-		return getOrEmpty(
-			Arrays.asList("package " + packageName + ";", "\n", getImports(), "\n", getOrEmpty(classes, "\n\n")), "\n"	
+	Object[] getStructure() {
+		return new Object[] {packageName, imports, classes};
+	}
+	
+	@Override
+	public void make(StringBuilder output) {
+		join(
+			output,
+			Arrays.asList(
+				"package " + packageName + ";",
+				"\n",
+				getImports(),
+				"\n",
+				(Fragment)classesOutput -> join(classesOutput, classes, "\n\n")
+			),
+			"\n"
 		);
 	}
 	
+	public String getMainClassName() {
+		if (classes == null || classes.isEmpty()) {
+			return null;
+		}
+		ClassSourceGenerator mainClass = classes.iterator().next();
+		for (ClassSourceGenerator cSG : classes) {
+			if (cSG.getModifier() != null && Modifier.isPublic(cSG.getModifier())) {
+				mainClass = cSG;
+				break;
+			}
+		}
+		return packageName != null ? packageName + "." + mainClass.getSimpleName() : mainClass.getSimpleName();
+	}
+	
 	public FileSystemItem storeToClassPath(String classPathFolder) {
 		classPathFolder = Paths.clean(classPathFolder);
 		String classRelativePath = packageName != null? packageName.replace(".", "/") : "";
@@ -69,12 +69,14 @@ public class VariableSourceGenerator extends SourceGenerator.Abst {
 		} else {
 			this.modifier |= modifier; 
 		}
+		markAsModified();
 		return this;
 	}
 	
 	public VariableSourceGenerator addOuterCode(String code) {
 		this.outerCode = Optional.ofNullable(this.outerCode).orElseGet(ArrayList::new);
 		this.outerCode.add(code);
+		markAsModified();
 		return this;
 	}
 	
@@ -85,12 +87,14 @@ public class VariableSourceGenerator extends SourceGenerator.Abst {
 		} else {
 			this.outerCode.add(code);
 		}
+		markAsModified();
 		return this;
 	}
 	
 	public VariableSourceGenerator addAnnotation(AnnotationSourceGenerator annotation) {
 		this.annotations = Optional.ofNullable(this.annotations).orElseGet(ArrayList::new);
 		this.annotations.add(annotation);
+		markAsModified();
 		return this;
 	}
 	
@@ -119,16 +123,19 @@ public class VariableSourceGenerator extends SourceGenerator.Abst {
 	
 	public VariableSourceGenerator setValue(BodySourceGenerator valueGenerator) {
 		this.valueBody = valueGenerator;
+		markAsModified();
 		return this;
 	}
 	
 	VariableSourceGenerator setAssignementOperator(String operator) {
 		this.assignmentOperator = operator;
+		markAsModified();
 		return this;
 	}
 	
 	VariableSourceGenerator setDelimiter(String separator) {
 		this.delimiter = separator;
+		markAsModified();
 		return this;
 	}
 	
@@ -137,24 +144,43 @@ public class VariableSourceGenerator extends SourceGenerator.Abst {
 		for (java.lang.Class<?> cls : classes) {			
 			this.usedTypes.add(TypeDeclarationSourceGenerator.create(cls));
 		}
+		markAsModified();
 		return this;		
 	}
 	
-	private String getAnnotations() {
-		return Optional.ofNullable(annotations).map(annts -> getOrEmpty(annts, "\n") +"\n").orElseGet(() -> null);
+	private void makeOuterCode(StringBuilder output) {
+		join(output, outerCode, EMPTY_SPACE);
+		output.append("\n");
+	}
+	
+	private void makeAnnotations(StringBuilder output) {
+		join(output, annotations, "\n");
+		output.append("\n");
+	}
+	
+	private void makeValue(StringBuilder output) {
+		output.append(assignmentOperator);
+		valueBody.make(output);
 	}
 	
 	@Override
-	public String make() {
-		return getOrEmpty(
-			Optional.ofNullable(outerCode).map(oc -> 
-				getOrEmpty(outerCode) + "\n"
-			).orElseGet(() -> null),
-			getAnnotations(),
+	Object[] getStructure() {
+		return new Object[] {outerCode, annotations, assignmentOperator, delimiter, modifier, type, name, valueBody, usedTypes};
+	}
+	
+	@Override
+	public void make(StringBuilder output) {
+		join(
+			output,
+			outerCode != null ? (Fragment)this::makeOuterCode : null,
+			annotations != null ? (Fragment)this::makeAnnotations : null,
 			Optional.ofNullable(modifier).map(mod -> Modifier.toString(this.modifier)).orElseGet(() -> null),
 			type,
 			name,
-			Optional.ofNullable(valueBody).map(value -> assignmentOperator + value).orElseGet(() -> null)
-		) + Optional.ofNullable(delimiter).orElseGet(() -> "");
+			valueBody != null ? (Fragment)this::makeValue : null
+		);
+		if (delimiter != null) {
+			output.append(delimiter);
+		}
 	}
 }
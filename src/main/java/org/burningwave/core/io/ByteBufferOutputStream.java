@@ -39,22 +39,37 @@ import java.nio.ByteBuffer;
 
 public class ByteBufferOutputStream extends OutputStream {
 
-    private static final float REALLOCATION_FACTOR = 1.1f;
+    private static final int DEFAULT_MAX_GROWTH = (int)BufferSize.MEGA_BYTE.getValue() * 16;
 
+    private final ByteBufferPool byteBufferPool;
+    private int maxGrowth;
     private Integer initialCapacity;
     private Integer initialPosition;
     private ByteBuffer buffer;
     private Boolean closeable;
+    private boolean bufferOwned;
+    private boolean bufferShared;
     
     public ByteBufferOutputStream() {
-    	this(Streams.defaultBufferSize);
+    	this(true);
     }
     
     public ByteBufferOutputStream(boolean closeable) {
-    	this(Streams.defaultBufferSize, closeable);
+    	this(Streams.byteBufferPool, Streams.directByteBufferAllocation, closeable);
+    }
+    
+    public ByteBufferOutputStream(ByteBufferPool byteBufferPool, boolean direct, boolean closeable) {
+    	this(byteBufferPool, byteBufferPool.acquire(Streams.defaultBufferSize, direct), closeable);
+    	this.bufferOwned = true;
     }
 
     public ByteBufferOutputStream(ByteBuffer buffer, boolean closeable) {
+        this(Streams.byteBufferPool, buffer, closeable);
+    }
+    
+    public ByteBufferOutputStream(ByteBufferPool byteBufferPool, ByteBuffer buffer, boolean closeable) {
+        this.byteBufferPool = byteBufferPool;
+        this.maxGrowth = DEFAULT_MAX_GROWTH;
         this.buffer = buffer;
         this.initialPosition = ByteBufferDelegate.position(buffer);
         this.initialCapacity = ByteBufferDelegate.capacity(buffer);
@@ -73,6 +88,10 @@ public class ByteBufferOutputStream extends OutputStream {
     	this.closeable = closeable;
     }
     
+    public void setMaxGrowth(int maxGrowth) {
+    	this.maxGrowth = Math.max(maxGrowth, 1);
+    }
+    
     public void write(int b) {
         ensureRemaining(1);
         buffer.put((byte) b);
@@ -115,24 +134,40 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     private void expandBuffer(int remainingRequired) {
-        int expandSize = Math.max((int) (ByteBufferDelegate.limit(buffer) * REALLOCATION_FACTOR), ByteBufferDelegate.position(buffer) + remainingRequired);
-        ByteBuffer temp = Streams.defaultByteBufferAllocationMode.apply(expandSize);
         int limit = limit();
+        long requiredSize = (long)ByteBufferDelegate.position(buffer) + remainingRequired;
+        if (requiredSize > Integer.MAX_VALUE) {
+        	throw new OutOfMemoryError("Required buffer size " + requiredSize + " exceeds " + Integer.MAX_VALUE + " bytes");
+        }
+        long expandSize = Math.min(
+        	Math.max((long)limit + Math.max(Math.min(limit, maxGrowth), 1), requiredSize), Integer.MAX_VALUE
+        );
+        ByteBuffer temp = byteBufferPool.acquire((int)expandSize, buffer.isDirect());
         ByteBufferDelegate.flip(buffer);
         temp.put(buffer);
-        ByteBufferDelegate.limit(buffer, limit);
-        ByteBufferDelegate.position(buffer, initialPosition);
+        if (bufferOwned && !bufferShared) {
+        	byteBufferPool.release(buffer);
+        } else {
+        	ByteBufferDelegate.limit(buffer, limit);
+        	ByteBufferDelegate.position(buffer, initialPosition);
+        }
         buffer = temp;
+        bufferOwned = true;
+        bufferShared = false;
     }
     
     
     protected InputStream toBufferedInputStream() {
+        bufferShared = true;
         return new ByteBufferInputStream(buffer);
     }
     
     @Override
     public void close() {
     	if (closeable) {
+    		if (bufferOwned && !bufferShared) {
+    			byteBufferPool.release(buffer);
+    		}
     		this.initialCapacity = null;
     		this.initialPosition = null;
     		this.buffer = null;
@@ -141,10 +176,11 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
 	public ByteBuffer toByteBuffer() {
+		bufferShared = true;
 		return Streams.shareContent(buffer);
 	}
 
 	public byte[] toByteArray() {
-		return Streams.toByteArray(toByteBuffer());
+		return Streams.toByteArray(Streams.shareContent(buffer));
 	}
 }
\ No newline at end of file
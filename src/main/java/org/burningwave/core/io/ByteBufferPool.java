@@ -0,0 +1,149 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferDelegate;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.burningwave.core.Component;
+
+public class ByteBufferPool implements Component {
+	private final static int MIN_SIZE_CLASS_SHIFT = 8;
+	private final static int MAX_SIZE_CLASS_SHIFT = 20;
+	private final static int MAX_POOLED_BYTES_FOR_SIZE_CLASS = 1 << 20;
+	
+	private final SizeClass[] heapSizeClasses;
+	private final SizeClass[] directSizeClasses;
+	
+	private ByteBufferPool() {
+		heapSizeClasses = createSizeClasses(false);
+		directSizeClasses = createSizeClasses(true);
+	}
+	
+	public static ByteBufferPool create() {
+		return new ByteBufferPool();
+	}
+	
+	private SizeClass[] createSizeClasses(boolean direct) {
+		SizeClass[] sizeClasses = new SizeClass[MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1];
+		for (int i = 0; i < sizeClasses.length; i++) {
+			sizeClasses[i] = new SizeClass(1 << (i + MIN_SIZE_CLASS_SHIFT), direct);
+		}
+		return sizeClasses;
+	}
+	
+	public ByteBuffer acquire(int size, boolean direct) {
+		SizeClass sizeClass = getSizeClass(size, direct);
+		if (sizeClass == null) {
+			return allocate(size, direct);
+		}
+		return sizeClass.acquire();
+	}
+	
+	public boolean release(ByteBuffer buffer) {
+		if (buffer == null || buffer.isReadOnly()) {
+			return false;
+		}
+		int capacity = ByteBufferDelegate.capacity(buffer);
+		SizeClass sizeClass = getSizeClass(capacity, buffer.isDirect());
+		if (sizeClass == null || sizeClass.size != capacity) {
+			return false;
+		}
+		return sizeClass.release(buffer);
+	}
+	
+	private SizeClass getSizeClass(int size, boolean direct) {
+		if (size > 1 << MAX_SIZE_CLASS_SHIFT) {
+			return null;
+		}
+		int shift = size <= 1 << MIN_SIZE_CLASS_SHIFT ?
+			MIN_SIZE_CLASS_SHIFT :
+			32 - Integer.numberOfLeadingZeros(size - 1);
+		return (direct ? directSizeClasses : heapSizeClasses)[shift - MIN_SIZE_CLASS_SHIFT];
+	}
+	
+	private static ByteBuffer allocate(int size, boolean direct) {
+		return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+	}
+	
+	@Override
+	public void close() {
+		for (SizeClass sizeClass : heapSizeClasses) {
+			sizeClass.clear();
+		}
+		for (SizeClass sizeClass : directSizeClasses) {
+			sizeClass.clear();
+		}
+	}
+	
+	private static class SizeClass {
+		private final int size;
+		private final boolean direct;
+		private final int maxPooledBuffers;
+		private final Queue<ByteBuffer> buffers;
+		private final AtomicInteger pooledBuffers;
+		
+		private SizeClass(int size, boolean direct) {
+			this.size = size;
+			this.direct = direct;
+			this.maxPooledBuffers = Math.max(1, Math.min(32, MAX_POOLED_BYTES_FOR_SIZE_CLASS / size));
+			this.buffers = new ConcurrentLinkedQueue<>();
+			this.pooledBuffers = new AtomicInteger();
+		}
+		
+		private ByteBuffer acquire() {
+			ByteBuffer buffer = buffers.poll();
+			if (buffer != null) {
+				pooledBuffers.decrementAndGet();
+				ByteBufferDelegate.clear(buffer);
+				return buffer;
+			}
+			return allocate(size, direct);
+		}
+		
+		private boolean release(ByteBuffer buffer) {
+			if (pooledBuffers.incrementAndGet() > maxPooledBuffers) {
+				pooledBuffers.decrementAndGet();
+				return false;
+			}
+			buffers.offer(buffer);
+			return true;
+		}
+		
+		private void clear() {
+			while (buffers.poll() != null) {
+				pooledBuffers.decrementAndGet();
+			}
+		}
+	}
+}
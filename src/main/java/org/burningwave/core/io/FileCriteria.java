@@ -41,6 +41,11 @@ public class FileCriteria extends Criteria<File, FileCriteria, Criteria.TestCont
 		return new FileCriteria();
 	}
 	
+	@Override
+	protected FileCriteria newInstance() {
+		return new FileCriteria();
+	}
+	
 	public FileCriteria absolutePath(Predicate<String> predicate) {
 		this.predicate = concat(
 			this.predicate,
@@ -504,7 +504,7 @@ public class FileSystemItem implements ManagedLogger {
 								fileSystemItem, zEntry, zEntry.getName()
 							)
 						);
-						logDebug(fileSystemItem.getAbsolutePath());
+						logDebug(fileSystemItem::getAbsolutePath);
 						if (fileSystemItem.isArchive()) {
 							Optional.ofNullable(
 								fileSystemItem.getAllChildren()
@@ -519,7 +519,7 @@ public class FileSystemItem implements ManagedLogger {
 				return allChildren;
 			}
 		} else if (isFolder()) {
-			logDebug("Retrieving all children of " + absolutePath.getKey());
+			logDebug(() -> "Retrieving all children of " + absolutePath.getKey());
 			Set<FileSystemItem> children = getChildren();
 			if (children != null) {
 				Set<FileSystemItem> allChildren = new HashSet<>();
@@ -691,7 +691,7 @@ public class FileSystemItem implements ManagedLogger {
 		Set<FileSystemItem> allChildren = getAllChildren(finalFilter);
 		for (FileSystemItem child : allChildren) {
 			FileSystemItem destFile = FileSystemItem.ofPath(folder + child.getAbsolutePath().replaceFirst(this.getAbsolutePath(), ""));
-			logDebug("Copying " + child.getAbsolutePath());
+			logDebug(() -> "Copying " + child.getAbsolutePath());
 			if (child.isFolder()) {
 				File file = new File(destFile.getAbsolutePath());
 				if (!file.exists()) {
@@ -756,7 +756,7 @@ public class FileSystemItem implements ManagedLogger {
 			for (FileSystemItem fileSystemItem : (filter == null ? getChildren() : getChildren(filter))) {
 				fileSystemItem.copyTo(file.getAbsolutePath(), filter);
 			}
-			logDebug("Copied folder to " + file.getAbsolutePath());
+			logDebug(() -> "Copied folder to " + file.getAbsolutePath());
 			destination = FileSystemItem.ofPath(file.getAbsolutePath());
 		}
 		return destination;
@@ -94,7 +94,7 @@ public class FileSystemScanner implements Component {
 		File[] files = currentPath.listFiles();
 		if (files != null) {
 			for (File fsObj : files) { 
-	        	logDebug("scanning file system item " + fsObj.getAbsolutePath());
+	        	logDebug(() -> "scanning file system item " + fsObj.getAbsolutePath());
 				scan(
 					new Scan.ItemContext(
 						scanItemContext, new Scan.FileWrapper(fsObj)
@@ -111,7 +111,7 @@ public class FileSystemScanner implements Component {
 		FileInputStream fileInputStream = scanItemContext.item.getWrappedItem();
 		File currentFile = fileInputStream.getFile();
 		try (IterableZipContainer zipContainer = IterableZipContainer.create(fileInputStream)) {
-			logDebug("scanning zip file " + zipContainer.getAbsolutePath());      
+			logDebug(() -> "scanning zip file " + zipContainer.getAbsolutePath());      
 			scanZipContainer(new Scan.ItemContext(scanItemContext, new Scan.ZipContainerWrapper(zipContainer)));
 		} catch (Throwable exc) {
 			logError("Could not scan zip file " + Paths.clean(currentFile.getAbsolutePath()), exc);
@@ -133,8 +133,9 @@ public class FileSystemScanner implements Component {
 		while((zipEntry = currentZip.getNextEntry()) != null) {
 			for (Entry<Predicate<IterableZipContainer.Entry>, Consumer<Scan.ItemContext>> entry : configuration.filterAndMapperForZipEntry.entrySet()) {
 				if (entry.getKey().test(zipEntry)) {
+					IterableZipContainer.Entry scannedZipEntry = zipEntry;
 					try {
-						logDebug("scanning zip entry " + zipEntry.getAbsolutePath());
+						logDebug(() -> "scanning zip entry " + scannedZipEntry.getAbsolutePath());
 						entry.getValue().accept(new Scan.ItemContext(currentScannedItemContext, new Scan.ZipEntryWrapper(zipEntry)));
 					} catch (Throwable exc) {
 						logError("Could not scan zip entry " + Paths.clean(zipEntry.getAbsolutePath()), exc);
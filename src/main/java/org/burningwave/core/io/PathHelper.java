@@ -31,17 +31,22 @@ package org.burningwave.core.io;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,6 +60,7 @@ import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.function.ThrowingSupplier;
@@ -72,12 +78,14 @@ public class PathHelper implements Component {
 	private IterableObjectHelper iterableObjectHelper;
 	private Map<String, Collection<String>> pathGroups;
 	private Collection<String> allPaths;
+	private Map<String, ArchiveEntries> archivesEntries;
 	private Properties config;
 		
 	private PathHelper(IterableObjectHelper iterableObjectHelper, Properties config) {
 		this.iterableObjectHelper = iterableObjectHelper;
 		pathGroups = new ConcurrentHashMap<>();
 		allPaths = ConcurrentHashMap.newKeySet();
+		archivesEntries = new ConcurrentHashMap<>();
 		loadMainClassPaths();
 		this.config = config;
 		loadAllPaths();	
@@ -238,38 +246,37 @@ public class PathHelper implements Component {
 	private Collection<String> addPaths(String groupName, Collection<String> paths) {
 		if (paths != null) {
 			Collection<String> pathGroup = getOrCreatePathGroup(groupName);
-			Integer loggingLevelFlags = ManagedLoggersRepository.getLoggingLevelFlags(FileSystemItem.class);
-			ManagedLoggersRepository.disableLogging(FileSystemItem.class);
-			for (String path : paths) {
-				if (path.matches(PATH_REGEX.pattern())) {
-					Map<Integer, List<String>> groupMap = Strings.extractAllGroups(PATH_REGEX, path);
-					FileSystemItem fileSystemItemParent = FileSystemItem.ofPath(groupMap.get(1).get(0));
-					if (fileSystemItemParent.exists()) {
-						String childrenSet = groupMap.get(2).get(0);
-						String childrenSetRegEx = groupMap.get(3).get(0);
-						Function<Predicate<FileSystemItem>, Set<FileSystemItem>> childrenSupplier =
-							childrenSet.equalsIgnoreCase("children") ?
-								fileSystemItemParent::getChildren :
-								childrenSet.equalsIgnoreCase("allChildren") ?
-									fileSystemItemParent::getAllChildren : null;
-						if (childrenSupplier != null) {
-							Set<FileSystemItem> childrenFound = childrenSupplier.apply(fileSystemItem -> fileSystemItem.getAbsolutePath().matches(childrenSetRegEx));
-							for (FileSystemItem fileSystemItem : childrenFound) {
-								pathGroup.add(fileSystemItem.getAbsolutePath());
-								allPaths.add(fileSystemItem.getAbsolutePath());
+			return ManagedLoggersRepository.executeWithLoggingDisabledFor(FileSystemItem.class, () -> {
+				for (String path : paths) {
+					if (path.matches(PATH_REGEX.pattern())) {
+						Map<Integer, List<String>> groupMap = Strings.extractAllGroups(PATH_REGEX, path);
+						FileSystemItem fileSystemItemParent = FileSystemItem.ofPath(groupMap.get(1).get(0));
+						if (fileSystemItemParent.exists()) {
+							String childrenSet = groupMap.get(2).get(0);
+							String childrenSetRegEx = groupMap.get(3).get(0);
+							Function<Predicate<FileSystemItem>, Set<FileSystemItem>> childrenSupplier =
+								childrenSet.equalsIgnoreCase("children") ?
+									fileSystemItemParent::getChildren :
+									childrenSet.equalsIgnoreCase("allChildren") ?
+										fileSystemItemParent::getAllChildren : null;
+							if (childrenSupplier != null) {
+								Set<FileSystemItem> childrenFound = childrenSupplier.apply(fileSystemItem -> fileSystemItem.getAbsolutePath().matches(childrenSetRegEx));
+								for (FileSystemItem fileSystemItem : childrenFound) {
+									pathGroup.add(fileSystemItem.getAbsolutePath());
+									allPaths.add(fileSystemItem.getAbsolutePath());
+								}
 							}
 						}
-					}
-				} else {
-					FileSystemItem fileSystemItem = FileSystemItem.ofPath(path);
-					if (fileSystemItem.exists()) {
-						pathGroup.add(fileSystemItem.getAbsolutePath());
-						allPaths.add(fileSystemItem.getAbsolutePath());
+					} else {
+						FileSystemItem fileSystemItem = FileSystemItem.ofPath(path);
+						if (fileSystemItem.exists()) {
+							pathGroup.add(fileSystemItem.getAbsolutePath());
+							allPaths.add(fileSystemItem.getAbsolutePath());
+						}
 					}
 				}
-			}
-			ManagedLoggersRepository.setLoggingLevelFlags(FileSystemItem.class, loggingLevelFlags);
-			return pathGroup;
+				return pathGroup;
+			});
 		} else {
 			throw Throwables.toRuntimeException("classPaths parameter is null");
 		}
@@ -303,23 +310,43 @@ public class PathHelper implements Component {
 	) {
 		Collection<T> files = new HashSet<>();
 		if (resourcesRelativePaths != null && resourcesRelativePaths.length > 0) {
-			Integer loggingLevelFlags = ManagedLoggersRepository.getLoggingLevelFlags(FileSystemItem.class);
-			ManagedLoggersRepository.disableLogging(FileSystemItem.class);
-			for (String resourceRelativePath : resourcesRelativePaths) {
-				getAllPaths().stream().forEach((path) -> {
-					FileSystemItem fileSystemItem = FileSystemItem.ofPath(path + "/" + resourceRelativePath);
-					if (fileSystemItem.exists()) {
-						System.out.println(fileSystemItem);
-						fileConsumer.accept(files, fileSystemItem);
-					}
-				});
-			}
-			ManagedLoggersRepository.setLoggingLevelFlags(FileSystemItem.class, loggingLevelFlags);
+			ManagedLoggersRepository.executeWithLoggingDisabledFor(FileSystemItem.class, () -> {
+				for (String resourceRelativePath : resourcesRelativePaths) {
+					String entryName = resourceRelativePath.contains("..") || resourceRelativePath.contains("./") ?
+						null : ArchiveEntries.toEntryName(Paths.clean(resourceRelativePath));
+					getAllPaths().stream().forEach((path) -> {
+						if (!getArchiveEntries(path).contains(entryName)) {
+							return;
+						}
+						FileSystemItem fileSystemItem = FileSystemItem.ofPath(path + "/" + resourceRelativePath);
+						if (fileSystemItem.exists()) {
+							System.out.println(fileSystemItem);
+							fileConsumer.accept(files, fileSystemItem);
+						}
+					});
+				}
+				return files;
+			});
 		}
 		return files;
 	}
 	
 	
+	private ArchiveEntries getArchiveEntries(String path) {
+		File file = new File(path);
+		if (!file.isFile()) {
+			return ArchiveEntries.NOT_INDEXED;
+		}
+		long lastModified = file.lastModified();
+		long length = file.length();
+		ArchiveEntries archiveEntries = archivesEntries.get(path);
+		if (archiveEntries == null || archiveEntries.lastModified != lastModified || archiveEntries.length != length) {
+			archiveEntries = ArchiveEntries.create(file, lastModified, length);
+			archivesEntries.put(path, archiveEntries);
+		}
+		return archiveEntries;
+	}
+	
 	public <T> T getResource(BiConsumer<Collection<T>, FileSystemItem> fileConsumer, String resourceRelativePath) {
 		Collection<T> files = getResources(fileConsumer, resourceRelativePath);
 		if (files.size() > 1) {
@@ -357,44 +384,50 @@ public class PathHelper implements Component {
 	
 	public ComparePathsResult comparePaths(Collection<String> pathCollection1, Collection<String> pathCollection2) {
 		ComparePathsResult checkPathsResult = new ComparePathsResult();
+		PathTree pathTree = new PathTree();
+		for (String path1 : pathCollection1) {
+			FileSystemItem path1AsFile = FileSystemItem.ofPath(path1);
+			pathTree.add(Paths.normalizeAndClean(path1AsFile.getAbsolutePath()), path1, path1AsFile.isFolder());
+		}
 		for (String path2 : pathCollection2) {
 			FileSystemItem path2AsFile = FileSystemItem.ofPath(path2);
-			String path2Normalized = Paths.normalizeAndClean(path2AsFile.getAbsolutePath());
+			boolean isPath2AFolder = path2AsFile.isFolder();
+			PathTree.Node matchingNode = null;
 			int result = -1;
-			for (String path1 : pathCollection1) {
-				FileSystemItem pathAsFile1 = FileSystemItem.ofPath(path1);
-				String path1Normalized = Paths.normalizeAndClean(pathAsFile1.getAbsolutePath());
-				if (//If path 1 and path 2 are the same file or path 2 is contained in path 1
-					(!pathAsFile1.isFolder() && !path2AsFile.isFolder() && 
-						path1Normalized.equals(path2Normalized)) ||
-					(pathAsFile1.isFolder() && !path2AsFile.isFolder() &&
-						path2Normalized.startsWith(path1Normalized + "/"))
-				) {	
-					checkPathsResult.addContainedPath(path1, path2);
-					result = 0;
-				} else if (
-					//If path 1 is a file contained in path 2 that is a directory
-					!pathAsFile1.isFolder() && path2AsFile.isFolder() && 
-						path1Normalized.startsWith(path2Normalized + "/")) {
-					checkPathsResult.addPartialContainedFile(path2, path1);
-					result = 1;
-					//If path 1 and path 2 are directories
-				} else if (pathAsFile1.isFolder() && path2AsFile.isFolder()) {
-					//If path 2 is contained in path 1
-					if ((path2Normalized + "/").startsWith(path1Normalized + "/")) {
-						checkPathsResult.addContainedPath(path1, path2);
+			PathTree.Node node = pathTree.root;
+			String[] segments = PathTree.split(Paths.normalizeAndClean(path2AsFile.getAbsolutePath()));
+			for (int i = 0; i < segments.length && (node = node.getChild(segments[i])) != null; i++) {
+				if (node.path != null) {
+					if (i < segments.length - 1) {
+						//If path 2 is contained in path 1 that is a directory
+						if (node.isFolder && (matchingNode == null || node.index < matchingNode.index)) {
+							matchingNode = node;
+							result = 0;
+						}
+					//If path 1 and path 2 are the same file or the same directory
+					} else if (node.isFolder == isPath2AFolder && (matchingNode == null || node.index < matchingNode.index)) {
+						matchingNode = node;
 						result = 0;
-					//If path 1 is contained in path 2
-					} else if ((path1Normalized + "/").startsWith(path2Normalized + "/")) {
-						checkPathsResult.addPartialContainedDirectory(path2, path1);
-						result = 1;
 					}
 				}
-				if (result != -1) {
-					break;
-				}				
+				//If path 1 is a file or a directory contained in path 2 that is a directory
+				if (i == segments.length - 1 && isPath2AFolder && node.firstDescendant != null &&
+					(matchingNode == null || node.firstDescendant.index < matchingNode.index)
+				) {
+					matchingNode = node.firstDescendant;
+					result = 1;
+				}
 			}
-			if (result != 0) {
+			if (result == 0) {
+				checkPathsResult.addContainedPath(matchingNode.path, path2);
+			} else {
+				if (result == 1) {
+					if (matchingNode.isFolder) {
+						checkPathsResult.addPartialContainedDirectory(path2, matchingNode.path);
+					} else {
+						checkPathsResult.addPartialContainedFile(path2, matchingNode.path);
+					}
+				}
 				checkPathsResult.addNotContainedPath(path2);
 			}
 		}
@@ -402,45 +435,25 @@ public class PathHelper implements Component {
 	}
 	
 	public Collection<String> optimize(Collection<String> paths) {
-		Collection<String> copyOfPaths = new HashSet<>();
+		Collection<String> copyOfPaths = new LinkedHashSet<>();
 		for (String path : paths) {
 			copyOfPaths.add(Paths.normalizeAndClean(path));
 		}
-		paths = new HashSet<>(copyOfPaths);
-		Collection<String> toBeRemoved = new HashSet<>();
-		Iterator<String> pathsItr = copyOfPaths.iterator();
-		int i = 0;
-		while (pathsItr.hasNext()) {
-			String path = pathsItr.next();
+		PathTree pathTree = new PathTree();
+		Collection<PathTree.Node> nodes = new LinkedHashSet<>();
+		for (String path : copyOfPaths) {
 			FileSystemItem pathAsFile = FileSystemItem.ofPath(path);
-			Iterator<String> pathsItrNested = copyOfPaths.iterator();
-			int j = 0;
-			while (pathsItrNested.hasNext()) {
-				String nestedPath = pathsItrNested.next();
-				if (i != j) {					
-					FileSystemItem nestedPathAsFile = FileSystemItem.ofPath(nestedPath);
-					if (!nestedPathAsFile.isFolder() && !pathAsFile.isFolder()) {
-						if (nestedPathAsFile.getAbsolutePath().equals(pathAsFile.getAbsolutePath())) {
-							toBeRemoved.add(path);
-						}
-					} else if (nestedPathAsFile.isFolder() && !pathAsFile.isFolder()) {
-						if (pathAsFile.getAbsolutePath().startsWith(nestedPathAsFile.getAbsolutePath() + "/")) {
-							toBeRemoved.add(path);
-						}
-					} else {
-						if ((pathAsFile.getAbsolutePath() + "/").startsWith((nestedPathAsFile.getAbsolutePath()) + "/")) {
-							toBeRemoved.add(path);
-						}
-					}
-				}
-				j++;
-			}
-			i++;
+			nodes.add(pathTree.add(pathAsFile.getAbsolutePath(), path, pathAsFile.isFolder()));
 		}
-		if (!toBeRemoved.isEmpty()) {
-			copyOfPaths.removeAll(toBeRemoved);
-			paths.clear();
-			paths.addAll(copyOfPaths);
+		paths = new HashSet<>();
+		for (PathTree.Node node : nodes) {
+			boolean isContained = false;
+			for (PathTree.Node parent = node.parent; parent != null && !isContained; parent = parent.parent) {
+				isContained = parent.path != null && (parent.isFolder || node.isFolder);
+			}
+			if (!isContained) {
+				paths.add(node.path);
+			}
 		}
 		return paths;
 	}
@@ -469,10 +482,132 @@ public class PathHelper implements Component {
 		pathGroups = null;
 		allPaths.clear();
 		allPaths = null;
+		archivesEntries.clear();
+		archivesEntries = null;
 		config = null;
 	}
 	
 	
+	private static class ArchiveEntries {
+		private static final ArchiveEntries NOT_INDEXED = new ArchiveEntries(null, -1, -1);
+		private final Set<String> names;
+		private final long lastModified;
+		private final long length;
+		
+		private ArchiveEntries(Set<String> names, long lastModified, long length) {
+			this.names = names;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+		
+		private static ArchiveEntries create(File file, long lastModified, long length) {
+			try {
+				if (!Streams.isArchive(file) || Streams.isJModArchive(file)) {
+					return new ArchiveEntries(null, lastModified, length);
+				}
+				Set<String> names = new HashSet<>();
+				try (java.util.zip.ZipFile zipFile = new java.util.zip.ZipFile(file)) {
+					Enumeration<? extends ZipEntry> entries = zipFile.entries();
+					while (entries.hasMoreElements()) {
+						String name = toEntryName(entries.nextElement().getName());
+						while (!name.isEmpty() && names.add(name)) {
+							int separatorIndex = name.lastIndexOf('/');
+							name = separatorIndex != -1 ? name.substring(0, separatorIndex) : "";
+						}
+					}
+				}
+				return new ArchiveEntries(names, lastModified, length);
+			} catch (IOException exc) {
+				return new ArchiveEntries(null, lastModified, length);
+			}
+		}
+		
+		private static String toEntryName(String path) {
+			int start = 0;
+			int end = path.length();
+			while (start < end && path.charAt(start) == '/') {
+				start++;
+			}
+			while (end > start && path.charAt(end - 1) == '/') {
+				end--;
+			}
+			return path.substring(start, end);
+		}
+		
+		private boolean contains(String name) {
+			return names == null || name == null || name.isEmpty() || names.contains(name);
+		}
+	}
+	
+	private static class PathTree {
+		private final Node root;
+		private int size;
+		
+		private PathTree() {
+			root = new Node(null);
+		}
+		
+		private static String[] split(String path) {
+			List<String> segments = new ArrayList<>();
+			int start = 0;
+			for (int end = path.indexOf('/'); end != -1; end = path.indexOf('/', start)) {
+				if (end > start || start == 0) {
+					segments.add(path.substring(start, end));
+				}
+				start = end + 1;
+			}
+			if (start < path.length()) {
+				segments.add(path.substring(start));
+			}
+			return segments.toArray(new String[segments.size()]);
+		}
+		
+		private Node add(String normalizedPath, String path, boolean isFolder) {
+			int index = size++;
+			Node node = root;
+			for (String segment : split(normalizedPath)) {
+				node = node.getOrCreateChild(segment);
+			}
+			if (node.path == null) {
+				node.path = path;
+				node.index = index;
+				node.isFolder = isFolder;
+				for (Node parent = node.parent; parent != null && parent.firstDescendant == null; parent = parent.parent) {
+					parent.firstDescendant = node;
+				}
+			}
+			return node;
+		}
+		
+		private static class Node {
+			private final Node parent;
+			private Map<String, Node> children;
+			private Node firstDescendant;
+			private String path;
+			private int index;
+			private boolean isFolder;
+			
+			private Node(Node parent) {
+				this.parent = parent;
+			}
+			
+			private Node getChild(String segment) {
+				return children != null ? children.get(segment) : null;
+			}
+			
+			private Node getOrCreateChild(String segment) {
+				if (children == null) {
+					children = new HashMap<>();
+				}
+				Node child = children.get(segment);
+				if (child == null) {
+					children.put(segment, child = new Node(this));
+				}
+				return child;
+			}
+		}
+	}
+	
 	public static class ComparePathsResult {
 		private final Collection<String> notContainedPaths;
 		private final Map<String, Collection<String>> partialContainedDirectories;
@@ -38,6 +38,7 @@ import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -49,26 +50,27 @@ import org.burningwave.core.iterable.Properties;
 public class Streams implements Component {
 	private static final String DEFAULT_BUFFER_SIZE_CONFIG_KEY = "streams.default-buffer-size";
 	private static final String DEFAULT_BYTE_BUFFER_ALLOCATION_MODE_CONFIG_KEY = "streams.default-byte-buffer-allocation-mode";
+	private static final String MEMORY_MAPPING_THRESHOLD_CONFIG_KEY = "streams.memory-mapping-threshold";
 	
 	public int defaultBufferSize;
 	public Function<Integer, ByteBuffer> defaultByteBufferAllocationMode;
+	public long memoryMappingThreshold;
+	boolean directByteBufferAllocation;
+	ByteBufferPool byteBufferPool;
 	
 	private Streams(Properties properties) {
 		try {
-			String defaultBufferSize = (String)properties.getProperty(DEFAULT_BUFFER_SIZE_CONFIG_KEY);
-			String unit = defaultBufferSize.substring(defaultBufferSize.length()-2);
-			String value = defaultBufferSize.substring(0, defaultBufferSize.length()-2);
-			if (unit.equalsIgnoreCase("KB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(BufferSize.KILO_BYTE.getValue())).intValue();
-			} else if (unit.equalsIgnoreCase("MB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(BufferSize.MEGA_BYTE.getValue())).intValue();
-			} else {
-				this.defaultBufferSize = Integer.valueOf(value);
-			}
+			defaultBufferSize = (int)toBytes((String)properties.getProperty(DEFAULT_BUFFER_SIZE_CONFIG_KEY));
 		} catch (Throwable exc) {
 			defaultBufferSize = (int)BufferSize.KILO_BYTE.getValue();
 		}
 		logInfo("default buffer size: {} bytes", defaultBufferSize);
+		try {
+			memoryMappingThreshold = toBytes((String)properties.getProperty(MEMORY_MAPPING_THRESHOLD_CONFIG_KEY));
+		} catch (Throwable exc) {
+			memoryMappingThreshold = 4 * BufferSize.MEGA_BYTE.getValue();
+		}
+		logInfo("memory mapping threshold: {} bytes", memoryMappingThreshold);
 		try {
 			String defaultByteBufferAllocationMode = (String)properties.getProperty(DEFAULT_BYTE_BUFFER_ALLOCATION_MODE_CONFIG_KEY);
 			if (defaultByteBufferAllocationMode.equalsIgnoreCase("ByteBuffer::allocate")) {
@@ -76,18 +78,41 @@ public class Streams implements Component {
 				logInfo("default allocation mode: ByteBuffer::allocate");
 			} else {
 				this.defaultByteBufferAllocationMode = ByteBuffer::allocateDirect;
+				this.directByteBufferAllocation = true;
 				logInfo("default allocation mode: ByteBuffer::allocateDirect");
 			}
 		} catch (Throwable exc) {
 			defaultByteBufferAllocationMode = ByteBuffer::allocateDirect;
+			directByteBufferAllocation = true;
 			logInfo("default allocation mode: ByteBuffer::allocateDirect");
 		}
+		byteBufferPool = ByteBufferPool.create();
 	}
 	
 	public static Streams create(Properties properties) {
 		return new Streams(properties);
 	}
 	
+	public ByteBuffer acquireByteBuffer(int size) {
+		return byteBufferPool.acquire(size, directByteBufferAllocation);
+	}
+	
+	public boolean releaseByteBuffer(ByteBuffer buffer) {
+		return byteBufferPool.release(buffer);
+	}
+	
+	private long toBytes(String size) {
+		String unit = size.substring(size.length()-2);
+		String value = size.substring(0, size.length()-2);
+		if (unit.equalsIgnoreCase("KB")) {
+			return new BigDecimal(value).multiply(new BigDecimal(BufferSize.KILO_BYTE.getValue())).longValue();
+		} else if (unit.equalsIgnoreCase("MB")) {
+			return new BigDecimal(value).multiply(new BigDecimal(BufferSize.MEGA_BYTE.getValue())).longValue();
+		} else {
+			return Long.valueOf(value);
+		}
+	}
+	
 	public boolean isArchive(File file) throws IOException {
 		return is(file, this::isArchive);
 	}
@@ -135,6 +160,9 @@ public class Streams implements Component {
 	}
 
 	public byte[] toByteArray(InputStream inputStream) {
+		if (inputStream instanceof java.io.FileInputStream) {
+			return toByteArray(toByteBuffer((java.io.FileInputStream)inputStream));
+		}
 		try (ByteBufferOutputStream output = new ByteBufferOutputStream()) {
 			copy(inputStream, output);
 			return output.toByteArray();
@@ -142,12 +170,40 @@ public class Streams implements Component {
 	}
 
 	public ByteBuffer toByteBuffer(InputStream inputStream) {
+		if (inputStream instanceof java.io.FileInputStream) {
+			return toByteBuffer((java.io.FileInputStream)inputStream);
+		}
 		try (ByteBufferOutputStream output = new ByteBufferOutputStream()) {
 			copy(inputStream, output);
 			return output.toByteBuffer();
 		}
 	}
 	
+	public ByteBuffer toByteBuffer(java.io.FileInputStream inputStream) {
+		return ThrowingSupplier.get(() -> {
+			FileChannel channel = inputStream.getChannel();
+			long position = channel.position();
+			long size = channel.size() - position;
+			if (size >= memoryMappingThreshold && size <= Integer.MAX_VALUE) {
+				ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+				channel.position(position + size);
+				return content;
+			}
+			ByteBuffer content = defaultByteBufferAllocationMode.apply((int)Math.min(size, Integer.MAX_VALUE));
+			while (content.hasRemaining() && channel.read(content) != -1);
+			int nextByte;
+			if (!content.hasRemaining() && (nextByte = inputStream.read()) != -1) {
+				try (ByteBufferOutputStream output = new ByteBufferOutputStream(content, true)) {
+					output.write(nextByte);
+					copy(inputStream, output);
+					return output.toByteBuffer();
+				}
+			}
+			ByteBufferDelegate.flip(content);
+			return content;
+		});
+	}
+	
 	public long copy(InputStream input, OutputStream output) {
 		return ThrowingSupplier.get(() -> {
 			byte[] buffer = new byte[defaultBufferSize];
@@ -40,6 +40,11 @@ public class ZipContainerEntryCriteria extends Criteria<IterableZipContainer.Ent
 		return new ZipContainerEntryCriteria();
 	}
 	
+	@Override
+	protected ZipContainerEntryCriteria newInstance() {
+		return new ZipContainerEntryCriteria();
+	}
+	
 	public ZipContainerEntryCriteria absolutePath(final Predicate<String> predicate) {
 		this.predicate = concat(
 			this.predicate,
@@ -30,24 +30,49 @@ package org.burningwave.core.iterable;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.burningwave.core.Component;
+import org.burningwave.core.iterable.Properties.Event;
 import org.burningwave.core.reflection.PropertyAccessor;
 
 public class IterableObjectHelper implements Component {
 	private PropertyAccessor propertyAccessor;
+	private Map<PropertiesKey, ResolvedValues> resolvedValuesForProperties;
+	private ReferenceQueue<Properties> collectedProperties;
 	
 	private Pattern PLACE_HOLDER_FOR_PROPERTIES_PATTERN = Pattern.compile("\\$\\{([\\w\\d\\.\\:\\-]*)\\}");
 	
 	
 	private IterableObjectHelper(PropertyAccessor propertyAccessor) {
 		this.propertyAccessor = propertyAccessor;
+		this.resolvedValuesForProperties = new ConcurrentHashMap<>();
+		this.collectedProperties = new ReferenceQueue<>();
+	}
+	
+	@Override
+	public void receiveNotification(org.burningwave.core.iterable.Properties properties, Event event, Object key, Object value) {
+		ResolvedValues resolvedValues = resolvedValuesForProperties.get(new PropertiesKey(properties, null));
+		if (resolvedValues != null) {
+			if (event == Event.CLEAR) {
+				resolvedValues.clear();
+			} else if (key instanceof String) {
+				resolvedValues.invalidate((String)key);
+			}
+		}
 	}
 	
 	public static IterableObjectHelper create(PropertyAccessor propertyAccessor) {
@@ -105,9 +130,32 @@ public class IterableObjectHelper implements Component {
 	}
 	
 	public String get(Properties properties, String propertyName, Map<String, String> defaultValues) {
+		return get(properties, propertyName, defaultValues, getResolvedValues(properties), new boolean[] {true});
+	}
+	
+	private String get(
+		Properties properties,
+		String propertyName,
+		Map<String, String> defaultValues,
+		ResolvedValues resolvedValues,
+		boolean[] memoizable
+	) {
+		long version = 0;
+		if (resolvedValues != null) {
+			version = resolvedValues.version;
+			String resolvedValue = resolvedValues.values.get(propertyName);
+			if (resolvedValue != null) {
+				return resolvedValue;
+			}
+		}
+		boolean[] propertyMemoizable = {true};
+		Collection<String> dependencies = new ArrayList<>();
 		String propertyValue = (String)properties.get(propertyName);
-		if (Strings.isEmpty(propertyValue) && defaultValues != null) {
-			propertyValue = defaultValues.get(propertyName);
+		if (Strings.isEmpty(propertyValue)) {
+			propertyMemoizable[0] = false;
+			if (defaultValues != null) {
+				propertyValue = defaultValues.get(propertyName);
+			}
 		}
 		if (!Strings.isEmpty(propertyValue)) {
 			Map<Integer, List<String>> subProperties = Strings.extractAllGroups(PLACE_HOLDER_FOR_PROPERTIES_PATTERN, propertyValue);		
@@ -115,15 +163,114 @@ public class IterableObjectHelper implements Component {
 				for (Map.Entry<Integer, List<String>> entry : subProperties.entrySet()) {
 					for (String propName : entry.getValue()) {
 						if (!propName.startsWith("system.properties:")) {
-							propertyValue = propertyValue.replace("${" + propName + "}", get(properties, propName, defaultValues));
+							propertyValue = propertyValue.replace("${" + propName + "}", get(properties, propName, defaultValues, resolvedValues, propertyMemoizable));
+							dependencies.add(propName);
 						} else {
 							propertyValue = propertyValue.replace("${" + propName + "}", System.getProperty(propName.split(":")[1]));
+							propertyMemoizable[0] = false;
 						}
 					}
 				}
 			}
 			
 		}
+		if (propertyMemoizable[0]) {
+			if (resolvedValues != null) {
+				resolvedValues.put(propertyName, propertyValue, dependencies, version);
+			}
+		} else {
+			memoizable[0] = false;
+		}
 		return propertyValue;
 	}
+	
+	private ResolvedValues getResolvedValues(Properties properties) {
+		if (!(properties instanceof org.burningwave.core.iterable.Properties)) {
+			return null;
+		}
+		ResolvedValues resolvedValues = resolvedValuesForProperties.get(new PropertiesKey(properties, null));
+		if (resolvedValues == null) {
+			synchronized (resolvedValuesForProperties) {
+				PropertiesKey propertiesKey = new PropertiesKey(properties, collectedProperties);
+				resolvedValues = resolvedValuesForProperties.get(propertiesKey);
+				if (resolvedValues == null) {
+					for (Reference<? extends Properties> collected; (collected = collectedProperties.poll()) != null;) {
+						resolvedValuesForProperties.remove(collected);
+					}
+					resolvedValuesForProperties.put(propertiesKey, resolvedValues = new ResolvedValues());
+					listenTo((org.burningwave.core.iterable.Properties)properties);
+				}
+			}
+		}
+		return resolvedValues;
+	}
+	
+	private static class PropertiesKey extends WeakReference<Properties> {
+		private final int hashCode;
+		
+		private PropertiesKey(Properties properties, ReferenceQueue<Properties> queue) {
+			super(properties, queue);
+			this.hashCode = System.identityHashCode(properties);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof PropertiesKey)) {
+				return false;
+			}
+			Properties properties = get();
+			return properties != null && properties == ((PropertiesKey)object).get();
+		}
+	}
+	
+	private static class ResolvedValues {
+		private Map<String, String> values;
+		private Map<String, Set<String>> dependents;
+		private volatile long version;
+		
+		private ResolvedValues() {
+			this.values = new ConcurrentHashMap<>();
+			this.dependents = new HashMap<>();
+		}
+		
+		private synchronized void put(String propertyName, String resolvedValue, Collection<String> dependencies, long version) {
+			if (this.version == version) {
+				values.put(propertyName, resolvedValue);
+				for (String dependency : dependencies) {
+					dependents.computeIfAbsent(dependency, key -> new HashSet<>()).add(propertyName);
+				}
+			}
+		}
+		
+		private synchronized void clear() {
+			version++;
+			values.clear();
+			dependents.clear();
+		}
+		
+		private synchronized void invalidate(String propertyName) {
+			version++;
+			Collection<String> toBeInvalidated = new ArrayList<>();
+			toBeInvalidated.add(propertyName);
+			while (!toBeInvalidated.isEmpty()) {
+				Collection<String> dependentsToBeInvalidated = new ArrayList<>();
+				for (String name : toBeInvalidated) {
+					values.remove(name);
+					Set<String> nameDependents = dependents.remove(name);
+					if (nameDependents != null) {
+						dependentsToBeInvalidated.addAll(nameDependents);
+					}
+				}
+				toBeInvalidated = dependentsToBeInvalidated;
+			}
+		}
+	}
 }
@@ -29,13 +29,17 @@
 package org.burningwave.core.iterable;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class Properties extends java.util.Properties {
 	private static final long serialVersionUID = -350748766178421942L;
 	
 	public static enum Event {
-		PUT, REMOVE
+		PUT, REMOVE, CLEAR
 	}
 	
 	private Collection<Listener> listeners;
@@ -66,6 +70,104 @@ public class Properties extends java.util.Properties {
 		return removed;
 	}
 	
+	@Override
+	public synchronized Object putIfAbsent(Object key, Object value) {
+		Object previous = super.putIfAbsent(key, value);
+		if (previous == null) {
+			notifyChange(Event.PUT, key, null);
+		}
+		return previous;
+	}
+	
+	@Override
+	public synchronized boolean remove(Object key, Object value) {
+		boolean removed = super.remove(key, value);
+		if (removed) {
+			notifyChange(Event.REMOVE, key, value);
+		}
+		return removed;
+	}
+	
+	@Override
+	public synchronized Object replace(Object key, Object value) {
+		Object previous = super.replace(key, value);
+		if (previous != null) {
+			notifyChange(Event.PUT, key, previous);
+		}
+		return previous;
+	}
+	
+	@Override
+	public synchronized boolean replace(Object key, Object oldValue, Object newValue) {
+		boolean replaced = super.replace(key, oldValue, newValue);
+		if (replaced) {
+			notifyChange(Event.PUT, key, oldValue);
+		}
+		return replaced;
+	}
+	
+	@Override
+	public synchronized void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+		Map<Object, Object> previousValues = new HashMap<>(this);
+		super.replaceAll(function);
+		previousValues.forEach((key, previous) -> notifyChange(Event.PUT, key, previous));
+	}
+	
+	@Override
+	public synchronized Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+		Object previous = super.get(key);
+		Object value = super.computeIfAbsent(key, mappingFunction);
+		notifyComputation(previous, key, value);
+		return value;
+	}
+	
+	@Override
+	public synchronized Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		Object previous = super.get(key);
+		Object value = super.computeIfPresent(key, remappingFunction);
+		notifyComputation(previous, key, value);
+		return value;
+	}
+	
+	@Override
+	public synchronized Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		Object previous = super.get(key);
+		Object value = super.compute(key, remappingFunction);
+		notifyComputation(previous, key, value);
+		return value;
+	}
+	
+	@Override
+	public synchronized Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		Object previous = super.get(key);
+		Object merged = super.merge(key, value, remappingFunction);
+		notifyComputation(previous, key, merged);
+		return merged;
+	}
+	
+	@Override
+	public synchronized void putAll(Map<?, ?> map) {
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	@Override
+	public synchronized void clear() {
+		super.clear();
+		notifyChange(Event.CLEAR, null, null);
+	}
+	
+	private void notifyComputation(Object previous, Object key, Object value) {
+		if (value != null) {
+			if (value != previous) {
+				notifyChange(Event.PUT, key, previous);
+			}
+		} else if (previous != null) {
+			notifyChange(Event.REMOVE, key, previous);
+		}
+	}
+	
 	private void notifyChange(Event event, Object key, Object value) {
 		listeners.forEach((listener) -> 
 			listener.receiveNotification(this, event, key, value)
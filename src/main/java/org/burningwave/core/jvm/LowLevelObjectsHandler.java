@@ -101,6 +101,140 @@ public class LowLevelObjectsHandler implements Component, MembersRetriever {
 		return unsafe;
 	}
 	
+	public long getFieldOffset(Field field) {
+		return unsafe.objectFieldOffset(field);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> T allocateInstance(Class<T> cls) {
+		return ThrowingSupplier.get(() -> (T)unsafe.allocateInstance(cls));
+	}
+	
+	public Object getFieldValue(Object target, long offset, Class<?> type, boolean isVolatile) {
+		if (isVolatile) {
+			if (!type.isPrimitive()) {
+				return unsafe.getObjectVolatile(target, offset);
+			} else if (type == int.class) {
+				return unsafe.getIntVolatile(target, offset);
+			} else if (type == long.class) {
+				return unsafe.getLongVolatile(target, offset);
+			} else if (type == boolean.class) {
+				return unsafe.getBooleanVolatile(target, offset);
+			} else if (type == double.class) {
+				return unsafe.getDoubleVolatile(target, offset);
+			} else if (type == float.class) {
+				return unsafe.getFloatVolatile(target, offset);
+			} else if (type == byte.class) {
+				return unsafe.getByteVolatile(target, offset);
+			} else if (type == char.class) {
+				return unsafe.getCharVolatile(target, offset);
+			}
+			return unsafe.getShortVolatile(target, offset);
+		}
+		if (!type.isPrimitive()) {
+			return unsafe.getObject(target, offset);
+		} else if (type == int.class) {
+			return unsafe.getInt(target, offset);
+		} else if (type == long.class) {
+			return unsafe.getLong(target, offset);
+		} else if (type == boolean.class) {
+			return unsafe.getBoolean(target, offset);
+		} else if (type == double.class) {
+			return unsafe.getDouble(target, offset);
+		} else if (type == float.class) {
+			return unsafe.getFloat(target, offset);
+		} else if (type == byte.class) {
+			return unsafe.getByte(target, offset);
+		} else if (type == char.class) {
+			return unsafe.getChar(target, offset);
+		}
+		return unsafe.getShort(target, offset);
+	}
+	
+	public void setFieldValue(Object target, long offset, Class<?> type, boolean isVolatile, Object value) {
+		if (isVolatile) {
+			if (!type.isPrimitive()) {
+				unsafe.putObjectVolatile(target, offset, value);
+			} else if (type == int.class) {
+				unsafe.putIntVolatile(target, offset, (Integer)value);
+			} else if (type == long.class) {
+				unsafe.putLongVolatile(target, offset, (Long)value);
+			} else if (type == boolean.class) {
+				unsafe.putBooleanVolatile(target, offset, (Boolean)value);
+			} else if (type == double.class) {
+				unsafe.putDoubleVolatile(target, offset, (Double)value);
+			} else if (type == float.class) {
+				unsafe.putFloatVolatile(target, offset, (Float)value);
+			} else if (type == byte.class) {
+				unsafe.putByteVolatile(target, offset, (Byte)value);
+			} else if (type == char.class) {
+				unsafe.putCharVolatile(target, offset, (Character)value);
+			} else {
+				unsafe.putShortVolatile(target, offset, (Short)value);
+			}
+		} else if (!type.isPrimitive()) {
+			unsafe.putObject(target, offset, value);
+		} else if (type == int.class) {
+			unsafe.putInt(target, offset, (Integer)value);
+		} else if (type == long.class) {
+			unsafe.putLong(target, offset, (Long)value);
+		} else if (type == boolean.class) {
+			unsafe.putBoolean(target, offset, (Boolean)value);
+		} else if (type == double.class) {
+			unsafe.putDouble(target, offset, (Double)value);
+		} else if (type == float.class) {
+			unsafe.putFloat(target, offset, (Float)value);
+		} else if (type == byte.class) {
+			unsafe.putByte(target, offset, (Byte)value);
+		} else if (type == char.class) {
+			unsafe.putChar(target, offset, (Character)value);
+		} else {
+			unsafe.putShort(target, offset, (Short)value);
+		}
+	}
+	
+	public void copyFieldValue(Object source, Object destination, long offset, Class<?> type, boolean isVolatile) {
+		if (isVolatile) {
+			if (!type.isPrimitive()) {
+				unsafe.putObjectVolatile(destination, offset, unsafe.getObjectVolatile(source, offset));
+			} else if (type == int.class) {
+				unsafe.putIntVolatile(destination, offset, unsafe.getIntVolatile(source, offset));
+			} else if (type == long.class) {
+				unsafe.putLongVolatile(destination, offset, unsafe.getLongVolatile(source, offset));
+			} else if (type == boolean.class) {
+				unsafe.putBooleanVolatile(destination, offset, unsafe.getBooleanVolatile(source, offset));
+			} else if (type == double.class) {
+				unsafe.putDoubleVolatile(destination, offset, unsafe.getDoubleVolatile(source, offset));
+			} else if (type == float.class) {
+				unsafe.putFloatVolatile(destination, offset, unsafe.getFloatVolatile(source, offset));
+			} else if (type == byte.class) {
+				unsafe.putByteVolatile(destination, offset, unsafe.getByteVolatile(source, offset));
+			} else if (type == char.class) {
+				unsafe.putCharVolatile(destination, offset, unsafe.getCharVolatile(source, offset));
+			} else {
+				unsafe.putShortVolatile(destination, offset, unsafe.getShortVolatile(source, offset));
+			}
+		} else if (!type.isPrimitive()) {
+			unsafe.putObject(destination, offset, unsafe.getObject(source, offset));
+		} else if (type == int.class) {
+			unsafe.putInt(destination, offset, unsafe.getInt(source, offset));
+		} else if (type == long.class) {
+			unsafe.putLong(destination, offset, unsafe.getLong(source, offset));
+		} else if (type == boolean.class) {
+			unsafe.putBoolean(destination, offset, unsafe.getBoolean(source, offset));
+		} else if (type == double.class) {
+			unsafe.putDouble(destination, offset, unsafe.getDouble(source, offset));
+		} else if (type == float.class) {
+			unsafe.putFloat(destination, offset, unsafe.getFloat(source, offset));
+		} else if (type == byte.class) {
+			unsafe.putByte(destination, offset, unsafe.getByte(source, offset));
+		} else if (type == char.class) {
+			unsafe.putChar(destination, offset, unsafe.getChar(source, offset));
+		} else {
+			unsafe.putShort(destination, offset, unsafe.getShort(source, offset));
+		}
+	}
+	
 	public void disableIllegalAccessLogger() {
 	    if (illegalAccessLoggerDisabler != null) {
 	    	illegalAccessLoggerDisabler.run();
@@ -297,6 +431,10 @@ public class LowLevelObjectsHandler implements Component, MembersRetriever {
 			return (T)((Buffer)buffer).flip();
 		}
 		
+		public <T extends Buffer> T clear(T buffer) {
+			return (T)((Buffer)buffer).clear();
+		}
+		
 		public <T extends Buffer> int capacity(T buffer) {
 			return ((Buffer)buffer).capacity();
 		}
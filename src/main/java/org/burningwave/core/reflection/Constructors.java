@@ -28,6 +28,7 @@
  */
 package org.burningwave.core.reflection;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
@@ -39,6 +40,7 @@ import org.burningwave.core.function.ThrowingSupplier;
 
 
 public class Constructors extends MemberHelper<Constructor<?>>  {
+	private static final String CONSTRUCTOR_NAME = "<init>";
 
 	private Constructors() {
 		super();
@@ -60,15 +62,20 @@ public class Constructors extends MemberHelper<Constructor<?>>  {
 
 	@SuppressWarnings("unchecked")
 	public <T> Constructor<T> findOneAndMakeItAccessible(Object object, Object... arguments) {
-		ConstructorCriteria criteria = ConstructorCriteria.byScanUpTo(object).parameterTypesAreAssignableFrom(
-			arguments
-		);
-		Constructor<T> member = (Constructor<T>)findOneAndApply(
-			criteria, object, (mmb) ->	mmb.setAccessible(true)
-		);
-		Optional.ofNullable(member).orElseThrow(() ->
-			Throwables.toRuntimeException("Constructor not found for class " + Classes.retrieveFrom(object))
-		);
+		Class<?> targetClass = Classes.retrieveFrom(object);
+		Constructor<T> member = (Constructor<T>)Cache.classAndNameForConstructor.get(targetClass, CONSTRUCTOR_NAME, arguments);
+		if (member == null) {
+			ConstructorCriteria criteria = ConstructorCriteria.byScanUpTo(object).parameterTypesAreAssignableFrom(
+				arguments
+			);
+			member = (Constructor<T>)findOneAndApply(
+				criteria, object, (mmb) ->	mmb.setAccessible(true)
+			);
+			Optional.ofNullable(member).orElseThrow(() ->
+				Throwables.toRuntimeException("Constructor not found for class " + targetClass)
+			);
+			Cache.classAndNameForConstructor.upload(targetClass, CONSTRUCTOR_NAME, arguments, member);
+		}
 		return member;
 	}
 
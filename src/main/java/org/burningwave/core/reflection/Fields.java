@@ -29,13 +29,23 @@
 package org.burningwave.core.reflection;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.LowLevelObjectsHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
 
 import org.burningwave.core.classes.FieldCriteria;
 import org.burningwave.core.function.ThrowingSupplier;
 
+
 public class Fields extends MemberHelper<Field> {
 
 	private Fields() {
@@ -46,9 +56,68 @@ public class Fields extends MemberHelper<Field> {
 		return new Fields();
 	}
 	
-	@SuppressWarnings("unchecked")
 	public <T> T get(Object target, String fieldName) {
-		return ThrowingSupplier.get(() -> (T)findOneAndMakeItAccessible(target, fieldName, true).get(target));
+		return get(target, findOneAndMakeItAccessibleOrThrow(target, fieldName));
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object target, Field field) {
+		MethodHandle getter = Cache.fieldForGetter.getOrUploadIfAbsent(field, () -> createGetter(field));
+		return ThrowingSupplier.get(() -> (T)getter.invokeExact(target));
+	}
+	
+	public void set(Object target, String fieldName, Object value) {
+		set(target, findOneAndMakeItAccessibleOrThrow(target, fieldName), value);
+	}
+	
+	private Field findOneAndMakeItAccessibleOrThrow(Object target, String fieldName) {
+		Field field = findOneAndMakeItAccessible(target, fieldName, true);
+		if (field == null) {
+			throw Throwables.toRuntimeException("Field " + fieldName + " not found in " + Classes.retrieveFrom(target).getName() + " hierarchy");
+		}
+		return field;
+	}
+	
+	public void set(Object target, Field field, Object value) {
+		MethodHandle setter = Cache.fieldForSetter.getOrUploadIfAbsent(field, () -> createSetter(field));
+		ThrowingSupplier.get(() -> {
+			setter.invokeExact(target, value);
+			return null;
+		});
+	}
+	
+	private MethodHandle createGetter(Field field) {
+		try {
+			MethodHandle getter = LowLevelObjectsHandler.getConsulter(field.getDeclaringClass()).unreflectGetter(field);
+			getter = getter.asType(getter.type().generic());
+			return Modifier.isStatic(field.getModifiers()) ?
+				MethodHandles.dropArguments(getter, 0, Object.class) :
+				getter;
+		} catch (IllegalAccessException exc) {
+			throw Throwables.toRuntimeException(exc);
+		}
+	}
+	
+	private MethodHandle createSetter(Field field) {
+		MethodHandle setter;
+		try {
+			if (Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers())) {
+				throw new IllegalAccessException("Can not set static final field " + field);
+			}
+			setter = LowLevelObjectsHandler.getConsulter(field.getDeclaringClass()).unreflectSetter(field);
+		} catch (IllegalAccessException exc) {
+			try {
+				return MethodHandles.publicLookup().findVirtual(
+					Field.class, "set", MethodType.methodType(void.class, Object.class, Object.class)
+				).bindTo(field);
+			} catch (NoSuchMethodException | IllegalAccessException innerExc) {
+				throw Throwables.toRuntimeException(innerExc);
+			}
+		}
+		setter = setter.asType(setter.type().generic().changeReturnType(void.class));
+		return Modifier.isStatic(field.getModifiers()) ?
+			MethodHandles.dropArguments(setter, 0, Object.class) :
+			setter;
 	}
 	
 	public Field findOneAndMakeItAccessible(Object target, String fieldName) {
@@ -61,8 +130,8 @@ public class Fields extends MemberHelper<Field> {
 		String fieldName,
 		boolean cacheField
 	) {
-		String cacheKey = getCacheKey(target, "equals " + fieldName, (Object[])null);
-		Field member = Cache.uniqueKeyForField.get(cacheKey);
+		Class<?> targetClass = Classes.retrieveFrom(target);
+		Field member = Cache.classAndNameForField.get(targetClass, fieldName);
 		if (member == null) {
 			member = Members.findOne(
 				FieldCriteria.forName(
@@ -70,13 +139,136 @@ public class Fields extends MemberHelper<Field> {
 				),
 				target				
 			);
+			if (member == null) {
+				return null;
+			}
 			member.setAccessible(true);
 			if (cacheField) {
-				final Field toUpload = member;
-				Cache.uniqueKeyForField.upload(cacheKey, () -> toUpload);
+				Cache.classAndNameForField.upload(targetClass, fieldName, null, member);
 			}
 		}
 		return member;
 	}
+	
+	public Object[] getAll(Object target) {
+		return getAccessor(target.getClass()).getAll(target);
+	}
+	
+	public <T> T copyAll(T source, T destination) {
+		return getAccessor(source.getClass()).copy(source, destination);
+	}
+	
+	public Accessor getAccessor(Class<?> targetClass) {
+		return Cache.classForFieldsAccessor.getOrUploadIfAbsent(targetClass, () -> {
+			Collection<Field> fields = new ArrayList<>();
+			for (Class<?> cls = targetClass; cls != null; cls = cls.getSuperclass()) {
+				for (Field field : Classes.getDeclaredFields(cls)) {
+					fields.add(field);
+				}
+			}
+			return new Accessor(targetClass, fields);
+		});
+	}
+	
+	public Accessor createAccessor(Class<?> targetClass, FieldCriteria criteria) {
+		return new Accessor(targetClass, Members.findAll(criteria, targetClass));
+	}
+	
+	/**
+	 * Reads and writes all instance fields of a class through their memory offsets.
+	 * {@link #copy} and {@link #clone} also write final fields, as a field-by-field
+	 * clone must; {@link #setAll} refuses them.
+	 */
+	public static class Accessor {
+		private final Class<?> targetClass;
+		private final Field[] fields;
+		private final long[] offsets;
+		private final Class<?>[] types;
+		private final boolean[] volatileFlags;
+		private final boolean hasFinalFields;
+		
+		private Accessor(Class<?> targetClass, Collection<Field> fields) {
+			Collection<Field> instanceFields = new ArrayList<>();
+			for (Field field : fields) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					instanceFields.add(field);
+				}
+			}
+			this.targetClass = targetClass;
+			this.fields = instanceFields.toArray(new Field[instanceFields.size()]);
+			this.offsets = new long[this.fields.length];
+			this.types = new Class<?>[this.fields.length];
+			this.volatileFlags = new boolean[this.fields.length];
+			boolean hasFinalFields = false;
+			for (int i = 0; i < this.fields.length; i++) {
+				int modifiers = this.fields[i].getModifiers();
+				offsets[i] = LowLevelObjectsHandler.getFieldOffset(this.fields[i]);
+				types[i] = this.fields[i].getType().isPrimitive() ? this.fields[i].getType() : Object.class;
+				volatileFlags[i] = Modifier.isVolatile(modifiers);
+				hasFinalFields |= Modifier.isFinal(modifiers);
+			}
+			this.hasFinalFields = hasFinalFields;
+		}
+		
+		public Field[] getFields() {
+			return fields.clone();
+		}
+		
+		public Object[] getAll(Object target) {
+			checkTarget(target);
+			Object[] values = new Object[fields.length];
+			for (int i = 0; i < fields.length; i++) {
+				values[i] = LowLevelObjectsHandler.getFieldValue(target, offsets[i], types[i], volatileFlags[i]);
+			}
+			return values;
+		}
+		
+		public void setAll(Object target, Object[] values) {
+			checkTarget(target);
+			if (values.length != fields.length) {
+				throw Throwables.toRuntimeException("Expected " + fields.length + " values for " + targetClass.getName() + " but found " + values.length);
+			}
+			if (hasFinalFields) {
+				for (Field field : fields) {
+					if (Modifier.isFinal(field.getModifiers())) {
+						throw Throwables.toRuntimeException("Can not set final field " + field);
+					}
+				}
+			}
+			for (int i = 0; i < fields.length; i++) {
+				Object value = values[i];
+				if (types[i] == Object.class) {
+					if (value != null && !fields[i].getType().isInstance(value)) {
+						throw Throwables.toRuntimeException("Value " + value + " is not assignable to field " + fields[i]);
+					}
+				} else if (value == null) {
+					throw Throwables.toRuntimeException("Null value is not assignable to primitive field " + fields[i]);
+				}
+			}
+			for (int i = 0; i < fields.length; i++) {
+				LowLevelObjectsHandler.setFieldValue(target, offsets[i], types[i], volatileFlags[i], values[i]);
+			}
+		}
+		
+		public <T> T copy(T source, T destination) {
+			checkTarget(source);
+			checkTarget(destination);
+			for (int i = 0; i < fields.length; i++) {
+				LowLevelObjectsHandler.copyFieldValue(source, destination, offsets[i], types[i], volatileFlags[i]);
+			}
+			return destination;
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <T> T clone(T source) {
+			return copy(source, (T)LowLevelObjectsHandler.allocateInstance(targetClass));
+		}
+		
+		private void checkTarget(Object target) {
+			if (!targetClass.isInstance(target)) {
+				throw Throwables.toRuntimeException(target + " is not an instance of " + targetClass.getName());
+			}
+		}
+	}
 
 }
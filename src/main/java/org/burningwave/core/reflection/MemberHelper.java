@@ -28,7 +28,6 @@
  */
 package org.burningwave.core.reflection;
 
-import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 
 import java.lang.reflect.Member;
@@ -75,22 +74,6 @@ public abstract class MemberHelper<M extends Member> implements Component {
 		return member;
 	}
 	
-	String getCacheKey(Object target, String memberName, Object... arguments) {
-		String argumentsKey = "";
-		if (arguments != null && arguments.length > 0) {
-			StringBuffer argumentsKeyStringBuffer = new StringBuffer();
-			Stream.of(Classes.retrieveFrom(arguments)).forEach(cls ->
-				argumentsKeyStringBuffer.append("/" + cls.getName())
-			);
-			argumentsKey = argumentsKeyStringBuffer.toString();
-		}
-		Class<?> targetClass = Classes.retrieveFrom(target);
-		String cacheKey = "/" + Classes.getId(targetClass.getClassLoader()) + "/" + targetClass.getName() + "@" + targetClass.hashCode() +
-			"/" + memberName +
-			argumentsKey;
-		return cacheKey;		
-	}
-	
 	@Override
 	public void close() {
 		
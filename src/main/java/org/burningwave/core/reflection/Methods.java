@@ -38,23 +38,44 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.function.ThrowingSupplier;
 
 
 public class Methods extends MemberHelper<Method> {
+	private final MethodHandle resultsCollector;
+	private final MethodHandle emptyInvocationPlan;
+	private final MethodHandle invocationTargetExceptionThrower;
 	
 	private Methods() {
 		super();
+		try {
+			resultsCollector = MethodHandles.publicLookup().findVirtual(
+				List.class, "add", MethodType.methodType(boolean.class, Object.class)
+			).asType(MethodType.methodType(void.class, List.class, Object.class));
+			invocationTargetExceptionThrower = MethodHandles.lookup().findStatic(
+				Methods.class, "throwInvocationTargetException", MethodType.methodType(Object.class, Throwable.class)
+			);
+		} catch (NoSuchMethodException | IllegalAccessException exc) {
+			throw Throwables.toRuntimeException(exc);
+		}
+		emptyInvocationPlan = MethodHandles.dropArguments(
+			MethodHandles.constant(Object.class, null), 0, Object.class, Object[].class, List.class
+		).asType(MethodType.methodType(void.class, Object.class, Object[].class, List.class));
 	}
 	
 	public static Methods create() {
@@ -78,21 +99,86 @@ public class Methods extends MemberHelper<Method> {
 	}
 	
 	public Method findOneAndMakeItAccessible(Object target, String methodName, boolean cacheMethod, Object... arguments) {
-		String cacheKey = getCacheKey(target, "equals " + methodName, arguments);
-		Collection<Method> members = Cache.uniqueKeyForMethods.get(cacheKey);
-		if (members == null) {	
-			 members = findAllAndMakeThemAccessible(target, methodName::equals, arguments);
-			 if (members.size() != 1) {
-					Throwables.toRuntimeException("Method " + methodName
-						+ " not found or found more than one methods in " + Classes.retrieveFrom(target).getName()
-						+ " hierarchy");
-			 }
-			 if (cacheMethod) {
-				final Collection<Method> toUpload = members;
-				Cache.uniqueKeyForMethods.upload(cacheKey, () -> toUpload);
-			 }
-		}		
-		return members.stream().findFirst().get();
+		Class<?> targetClass = Classes.retrieveFrom(target);
+		Method member = Cache.classAndNameForMethod.get(targetClass, methodName, arguments);
+		if (member == null) {
+			member = findMostSpecific(targetClass, methodName, Classes.retrieveFrom(arguments));
+			if (member == null) {
+				throw Throwables.toRuntimeException("Method " + methodName
+					+ " not found in " + targetClass.getName() + " hierarchy");
+			}
+			member.setAccessible(true);
+			if (cacheMethod) {
+				Cache.classAndNameForMethod.upload(targetClass, methodName, arguments, member);
+			}
+		}
+		return member;
+	}
+	
+	public boolean match(Object target, String methodName, Object... arguments) {
+		Class<?> targetClass = Classes.retrieveFrom(target);
+		return Cache.classAndNameForMethod.get(targetClass, methodName, arguments) != null ||
+			findMostSpecific(targetClass, methodName, Classes.retrieveFrom(arguments)) != null;
+	}
+	
+	private Method findMostSpecific(Class<?> targetClass, String methodName, Class<?>[] argumentsClasses) {
+		Method[][] methodsByParametersCount = Cache.classForMethodsSignatureIndex.getOrUploadIfAbsent(
+			targetClass, () -> createSignatureIndex(targetClass)
+		).get(methodName);
+		int parametersCount = argumentsClasses != null ? argumentsClasses.length : 0;
+		if (methodsByParametersCount == null || parametersCount >= methodsByParametersCount.length) {
+			return null;
+		}
+		Method mostSpecific = null;
+		Class<?>[] mostSpecificParameterTypes = null;
+		for (Method method : methodsByParametersCount[parametersCount]) {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			if (parametersCount == 0 || Arrays.equals(parameterTypes, argumentsClasses)) {
+				return method;
+			}
+			if (isAssignableFrom(parameterTypes, argumentsClasses) && (
+				mostSpecificParameterTypes == null || (
+					!Arrays.equals(parameterTypes, mostSpecificParameterTypes) &&
+					isAssignableFrom(mostSpecificParameterTypes, parameterTypes)
+				)
+			)) {
+				mostSpecific = method;
+				mostSpecificParameterTypes = parameterTypes;
+			}
+		}
+		return mostSpecific;
+	}
+	
+	private boolean isAssignableFrom(Class<?>[] parameterTypes, Class<?>[] argumentsClasses) {
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (argumentsClasses[i] != null && !parameterTypes[i].isAssignableFrom(argumentsClasses[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private Map<String, Method[][]> createSignatureIndex(Class<?> targetClass) {
+		Map<String, List<List<Method>>> methodsForName = new HashMap<>();
+		for (Class<?> cls = targetClass; cls != null; cls = cls.getSuperclass()) {
+			for (Method method : Classes.getDeclaredMethods(cls)) {
+				List<List<Method>> methodsByParametersCount = methodsForName.computeIfAbsent(method.getName(), name -> new ArrayList<>());
+				while (methodsByParametersCount.size() <= method.getParameterCount()) {
+					methodsByParametersCount.add(new ArrayList<>());
+				}
+				methodsByParametersCount.get(method.getParameterCount()).add(method);
+			}
+		}
+		Map<String, Method[][]> signatureIndex = new HashMap<>();
+		for (Map.Entry<String, List<List<Method>>> entry : methodsForName.entrySet()) {
+			Method[][] methodsByParametersCount = new Method[entry.getValue().size()][];
+			for (int i = 0; i < methodsByParametersCount.length; i++) {
+				List<Method> methods = entry.getValue().get(i);
+				methodsByParametersCount[i] = methods.toArray(new Method[methods.size()]);
+			}
+			signatureIndex.put(entry.getKey(), methodsByParametersCount);
+		}
+		return signatureIndex;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -132,7 +218,7 @@ public class Methods extends MemberHelper<Method> {
 	@SuppressWarnings("unchecked")
 	public <T> T invokeDirect(Object target, String methodName, boolean cacheMethod, Object... arguments) {
 		Method method = findOneAndMakeItAccessible(target, methodName, arguments);
-		final AtomicReference<MethodHandle> methodHandleWrapper = new AtomicReference<>(Cache.uniqueKeyForMethodHandle.get(method));
+		final AtomicReference<MethodHandle> methodHandleWrapper = new AtomicReference<>(Cache.methodForMethodHandle.get(method));
 		if (methodHandleWrapper.get() == null) {
 			methodHandleWrapper.set(
 				convertToMethodHandle(
@@ -140,7 +226,7 @@ public class Methods extends MemberHelper<Method> {
 				)
 			);
 			if (cacheMethod) {
-				Cache.uniqueKeyForMethodHandle.upload(method, methodHandleWrapper.get());
+				Cache.methodForMethodHandle.upload(method, methodHandleWrapper.get());
 			}
 		}
 		return ThrowingSupplier.get(() -> {
@@ -157,29 +243,63 @@ public class Methods extends MemberHelper<Method> {
 		return invokeAll(target, methodNameRegEx, true, arguments);
 	}
 	
-	@SuppressWarnings("unchecked")
 	public <T> Collection<T> invokeAll(Object target, String methodNameRegEx, boolean cacheMember, Object... arguments) {
 		return ThrowingSupplier.get(() -> {
-			String cacheKey = getCacheKey(target, "matches " + methodNameRegEx, arguments);
-			Collection<Method> members = Cache.uniqueKeyForMethods.get(cacheKey);
-			if (members == null) {	
-				members = findAllAndMakeThemAccessible(target, (name) -> name.matches(methodNameRegEx), arguments);
+			Object[] effectiveArguments = arguments != null ? arguments : new Object[0];
+			Class<?> targetClass = Classes.retrieveFrom(target);
+			MethodHandle invocationPlan = Cache.invocationPlanForMethodsMatchingName.get(targetClass, methodNameRegEx, arguments);
+			if (invocationPlan == null) {
+				Pattern methodNamePattern = Pattern.compile(methodNameRegEx);
+				invocationPlan = createInvocationPlan(
+					findAllAndMakeThemAccessible(target, (name) -> methodNamePattern.matcher(name).matches(), effectiveArguments),
+					effectiveArguments.length
+				);
 				if (cacheMember) {
-					final Collection<Method> toUpload = members;
-					Cache.uniqueKeyForMethods.upload(cacheKey, () -> toUpload);
+					Cache.invocationPlanForMethodsMatchingName.upload(targetClass, methodNameRegEx, arguments, invocationPlan);
 				}
-			}			
-			Collection<T> results = new ArrayList<>();
-			for (Method member : members) {
-				results.add((T)member.invoke(
-					Modifier.isStatic(member.getModifiers()) ? null : target,
-					arguments
-				));
-			}			
+			}
+			List<T> results = new ArrayList<>();
+			invocationPlan.invokeExact(target, effectiveArguments, results);
 			return results;
 		});
 	}
 	
+	private MethodHandle createInvocationPlan(Collection<Method> members, int argumentsCount) throws IllegalAccessException {
+		MethodHandle invocationPlan = null;
+		List<Method> orderedMembers = new ArrayList<>(members);
+		for (int i = orderedMembers.size() - 1; i >= 0; i--) {
+			MethodHandle memberInvoker = MethodHandles.permuteArguments(
+				MethodHandles.collectArguments(resultsCollector, 1, toGenericSpreader(orderedMembers.get(i), argumentsCount)),
+				MethodType.methodType(void.class, Object.class, Object[].class, List.class),
+				2, 0, 1
+			);
+			invocationPlan = invocationPlan != null ?
+				MethodHandles.foldArguments(invocationPlan, memberInvoker) :
+				memberInvoker;
+		}
+		return invocationPlan != null ? invocationPlan : emptyInvocationPlan;
+	}
+	
+	private MethodHandle toGenericSpreader(Method method, int argumentsCount) throws IllegalAccessException {
+		MethodHandle methodHandle = LowLevelObjectsHandler.getConsulter(method.getDeclaringClass()).unreflect(method).asFixedArity();
+		methodHandle = MethodHandles.catchException(
+			methodHandle, Throwable.class,
+			MethodHandles.dropArguments(
+				invocationTargetExceptionThrower.asType(MethodType.methodType(methodHandle.type().returnType(), Throwable.class)),
+				1, methodHandle.type().parameterList()
+			)
+		);
+		methodHandle = methodHandle.asType(methodHandle.type().generic());
+		if (Modifier.isStatic(method.getModifiers())) {
+			methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+		}
+		return methodHandle.asSpreader(Object[].class, argumentsCount);
+	}
+	
+	private static Object throwInvocationTargetException(Throwable exc) throws InvocationTargetException {
+		throw new InvocationTargetException(exc);
+	}
+	
 	public MethodHandle convertToMethodHandle(Method method) {
 		return convertToMethodHandleBag(method).getValue();
 	}
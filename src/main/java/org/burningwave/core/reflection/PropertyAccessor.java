@@ -29,6 +29,7 @@
  */
 package org.burningwave.core.reflection;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
@@ -45,6 +46,7 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.burningwave.core.Cache.ClassForMembers;
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.ClassFactory;
 import org.burningwave.core.classes.FieldCriteria;
@@ -54,11 +56,14 @@ import org.burningwave.core.function.ThrowingFunction;
 public abstract class PropertyAccessor implements Component {
 	public final static String REG_EXP_FOR_JAVA_PROPERTIES = "([a-zA-Z\\$\\_\\-0-9]*)(\\[*.*)";
 	public final static String REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES = "\\[([a-zA-Z0-9]*)\\]";
+	final static Object MEMBER_NOT_FOUND = new Object();
 
 	private ClassFactory classFactory;
 	private List<ThrowingBiFunction<Object, String, Object, Throwable>> propertyRetrievers;
 	private List<ThrowingFunction<Object[], Boolean, Throwable>> propertySetters;
 	private Supplier<ClassFactory> classFactorySupplier;
+	private ClassForMembers<Integer> propertyRetrieverIndexes;
+	private ClassForMembers<Integer> propertySetterIndexes;
 
 	
 	PropertyAccessor(
@@ -67,6 +72,8 @@ public abstract class PropertyAccessor implements Component {
 		this.classFactorySupplier = classFactorySupplier;
 		this.propertyRetrievers = getPropertyRetrievers();
 		this.propertySetters= getPropertySetters();
+		this.propertyRetrieverIndexes = new ClassForMembers<>();
+		this.propertySetterIndexes = new ClassForMembers<>();
 	}
 	
 	protected ClassFactory getClassFactory() {
@@ -94,35 +101,56 @@ public abstract class PropertyAccessor implements Component {
 		Object objToReturn = null;
 		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(property);
 		matcher.find();
+		String propertyName = matcher.group(1);
+		Class<?> targetClass = retrieveClass(obj, propertyName);
+		Integer firstRetrieverIndex = propertyRetrieverIndexes.get(targetClass, propertyName);
 		List<Throwable> exceptions = new ArrayList<>();
-		for (ThrowingBiFunction<Object, String, Object, Throwable> retriever : propertyRetrievers) {
+		boolean resolved = false;
+		for (int i = firstRetrieverIndex != null ? firstRetrieverIndex : 0; i < propertyRetrievers.size(); i++) {
 			try {
-				if ((objToReturn = retriever.apply(obj, matcher.group(1))) != null) {
+				Object value = propertyRetrievers.get(i).apply(obj, propertyName);
+				if (value == MEMBER_NOT_FOUND) {
+					continue;
+				}
+				resolved = true;
+				if (firstRetrieverIndex == null) {
+					propertyRetrieverIndexes.upload(targetClass, propertyName, null, firstRetrieverIndex = i);
+				}
+				if ((objToReturn = value) != null) {
 					break;
 				}
 			} catch (Throwable exc) {
 				exceptions.add(exc);
 			}
 		}
-		manageGetPropertyExceptions(exceptions);
+		managePropertyExceptions(exceptions, resolved, targetClass, propertyName);
 		if (!matcher.group(2).isEmpty()) {
 			objToReturn = retrieveFromIndexedProperty(objToReturn, matcher.group(2));
 		}
 		return objToReturn;
 	}
+	
+	private Class<?> retrieveClass(Object obj, String propertyName) {
+		if (obj == null) {
+			throw Throwables.toRuntimeException("Could not access property " + propertyName + " of a null object");
+		}
+		return Classes.retrieveFrom(obj);
+	}
 
-	private void manageGetPropertyExceptions(List<Throwable> exceptions) {
+	private void managePropertyExceptions(List<Throwable> exceptions, boolean resolved, Class<?> targetClass, String propertyName) {
 		if (exceptions.size() > 0) {
 			String message = "";
 			for (Throwable exception : exceptions) {
 				message += exception.getMessage() + "\n";	
 			}
 			message = message.substring(0, message.length() - 1);
-			if (exceptions.size() == propertyRetrievers.size()) {
+			if (!resolved) {
 				throw Throwables.toRuntimeException(message.toString());
 			} else {
 				logDebug("Warning: " + message);
 			}
+		} else if (!resolved) {
+			throw Throwables.toRuntimeException("Property " + propertyName + " not found in " + targetClass.getName() + " hierarchy");
 		}
 	}
 	
@@ -140,16 +168,24 @@ public abstract class PropertyAccessor implements Component {
 	
 	private void setProperty(Object target, String property,
 			Object value) {
+		Class<?> targetClass = retrieveClass(target, property);
+		Integer firstSetterIndex = propertySetterIndexes.get(targetClass, property);
 		List<Throwable> exceptions = new ArrayList<>();
-		for (ThrowingFunction<Object[], Boolean, Throwable> propertySetter : propertySetters) {
+		boolean resolved = false;
+		for (int i = firstSetterIndex != null ? firstSetterIndex : 0; i < propertySetters.size(); i++) {
 			try {
-				propertySetter.apply(new Object[] {target, property, value});
-				break;
+				if (propertySetters.get(i).apply(new Object[] {target, property, value})) {
+					resolved = true;
+					if (firstSetterIndex == null) {
+						propertySetterIndexes.upload(targetClass, property, null, i);
+					}
+					break;
+				}
 			} catch (Throwable exc) {
 				exceptions.add(exc);
 			}
 		}
-		manageGetPropertyExceptions(exceptions);
+		managePropertyExceptions(exceptions, resolved, targetClass, property);
 	}
 	
 
@@ -163,7 +199,7 @@ public abstract class PropertyAccessor implements Component {
 		);
 		for (Field field : fields) {
 			field.setAccessible(true);
-			propertyValues.put(field.getName(), (T)field.get(obj));
+			propertyValues.put(field.getName(), (T)Fields.get(obj, field));
 		}
 		return propertyValues;
 	}
@@ -196,15 +232,22 @@ public abstract class PropertyAccessor implements Component {
 		Field field = Fields.findOneAndMakeItAccessible(obj,
 			propertyName
 		);
-		objToReturn = field.get(obj);
+		if (field == null) {
+			return MEMBER_NOT_FOUND;
+		}
+		objToReturn = Fields.get(obj, field);
 		return objToReturn;
 	}
 
 	Object retrievePropertyByGetterMethod(Object obj, String propertyName) {
 		Object objToReturn;
+		String getterMethodName = Methods.createGetterMethodNameByPropertyName(propertyName);
+		if (!Methods.match(obj, getterMethodName)) {
+			return MEMBER_NOT_FOUND;
+		}
 		objToReturn = Methods.invoke(
 			obj, 
-			Methods.createGetterMethodNameByPropertyName(propertyName), 
+			getterMethodName, 
 			(Object[])null
 		);
 		return objToReturn;
@@ -236,10 +279,13 @@ public abstract class PropertyAccessor implements Component {
 		matcher.find();
 		Field field = Fields.findOneAndMakeItAccessible(target.getClass(),
 				matcher.group(1));
+		if (field == null) {
+			return Boolean.FALSE;
+		}
 		if (matcher.group(2).isEmpty()) {
-			field.set(target, value);
+			Fields.set(target, field, value);
 		} else {
-			setInIndexedProperty(field.get(target), matcher.group(2), value);
+			setInIndexedProperty(Fields.get(target, field), matcher.group(2), value);
 		}
 		return Boolean.TRUE;
 	}
@@ -248,10 +294,17 @@ public abstract class PropertyAccessor implements Component {
 		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(propertyPath);
 		matcher.find();
 		if (matcher.group(2).isEmpty()) {
+			String setterMethodName = Methods.createSetterMethodNameByPropertyName(matcher.group(1));
+			if (!Methods.match(target, setterMethodName, value)) {
+				return Boolean.FALSE;
+			}
 			Methods.invoke(
-				target, Methods.createSetterMethodNameByPropertyName(matcher.group(1)), value
+				target, setterMethodName, value
 			);
 		} else {
+			if (!Methods.match(target, Methods.createGetterMethodNameByPropertyName(matcher.group(1)))) {
+				return Boolean.FALSE;
+			}
 			setInIndexedProperty(Methods.invoke(
 				target, Methods.createGetterMethodNameByPropertyName(matcher.group(1))
 			), matcher.group(2), value);
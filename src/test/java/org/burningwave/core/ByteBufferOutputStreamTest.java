@@ -0,0 +1,144 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.burningwave.core.io.ByteBufferOutputStream;
+import org.burningwave.core.io.ByteBufferPool;
+import org.junit.jupiter.api.Test;
+
+
+public class ByteBufferOutputStreamTest extends BaseTest {
+	
+	@Test
+	public void closeTestOne() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = acquirePooled(byteBufferPool, Streams.defaultBufferSize);
+		ByteBufferOutputStream output = new ByteBufferOutputStream(byteBufferPool, false, true);
+		output.write(new byte[] {1, 2, 3}, 0, 3);
+		output.close();
+		assertTrue(isPooled(byteBufferPool, buffer));
+	}
+	
+	@Test
+	public void closeTestTwo() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = acquirePooled(byteBufferPool, Streams.defaultBufferSize);
+		ByteBufferOutputStream output = new ByteBufferOutputStream(byteBufferPool, false, true);
+		output.write(new byte[] {1, 2, 3}, 0, 3);
+		ByteBuffer content = output.toByteBuffer();
+		output.close();
+		assertFalse(isPooled(byteBufferPool, buffer));
+		assertEquals(ByteBuffer.wrap(new byte[] {1, 2, 3}), content);
+	}
+	
+	@Test
+	public void closeTestThree() throws Throwable {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = acquirePooled(byteBufferPool, Streams.defaultBufferSize);
+		SharingOutputStream output = new SharingOutputStream(byteBufferPool);
+		output.write(new byte[] {1, 2, 3}, 0, 3);
+		try (InputStream inputStream = output.toInputStream()) {
+			output.close();
+			assertFalse(isPooled(byteBufferPool, buffer));
+			assertEquals(1, inputStream.read());
+		}
+	}
+	
+	@Test
+	public void closeTestFour() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = ByteBuffer.allocate(Streams.defaultBufferSize);
+		ByteBufferOutputStream output = new ByteBufferOutputStream(byteBufferPool, buffer, true);
+		output.write(1);
+		output.close();
+		assertFalse(isPooled(byteBufferPool, buffer));
+	}
+	
+	@Test
+	public void expandTestOne() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = acquirePooled(byteBufferPool, Streams.defaultBufferSize);
+		ByteBufferOutputStream output = new ByteBufferOutputStream(byteBufferPool, false, true);
+		byte[] bytes = new byte[buffer.capacity() + 1];
+		bytes[bytes.length - 1] = 1;
+		output.write(bytes, 0, bytes.length);
+		assertTrue(isPooled(byteBufferPool, buffer));
+		assertEquals(ByteBuffer.wrap(bytes), output.toByteBuffer());
+		output.close();
+	}
+	
+	@Test
+	public void expandTestTwo() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = acquirePooled(byteBufferPool, Streams.defaultBufferSize);
+		ByteBufferOutputStream output = new ByteBufferOutputStream(byteBufferPool, false, true);
+		output.write(1);
+		ByteBuffer content = output.toByteBuffer();
+		output.write(new byte[buffer.capacity()], 0, buffer.capacity());
+		assertFalse(isPooled(byteBufferPool, buffer));
+		assertEquals(ByteBuffer.wrap(new byte[] {1}), content);
+		output.close();
+	}
+	
+	@Test
+	public void expandTestThree() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		ByteBufferOutputStream output = new ByteBufferOutputStream(byteBufferPool, buffer, true);
+		output.write(new byte[257], 0, 257);
+		assertFalse(isPooled(byteBufferPool, buffer));
+		assertEquals(0, buffer.position());
+		assertEquals(256, buffer.limit());
+		assertFalse(output.toByteBuffer().isDirect());
+		output.close();
+	}
+	
+	@Test
+	public void expandTestFour() {
+		assertEquals(512, getExpandedSize(256, 1024));
+		assertEquals(2048, getExpandedSize(1024, 1024));
+		assertEquals((1 << 20) + 256, getExpandedSize(1 << 20, 256));
+		assertEquals((1 << 20) + 257, getExpandedSize((1 << 20) + 1, 256));
+	}
+	
+	private int getExpandedSize(int initialCapacity, int maxGrowth) {
+		ByteBufferOutputStream output = new ByteBufferOutputStream(
+			ByteBufferPool.create(), ByteBuffer.allocate(initialCapacity), true
+		);
+		output.setMaxGrowth(maxGrowth);
+		output.position(initialCapacity);
+		output.write(1);
+		int expandedSize = output.limit();
+		output.close();
+		return expandedSize;
+	}
+	
+	private ByteBuffer acquirePooled(ByteBufferPool byteBufferPool, int size) {
+		ByteBuffer buffer = byteBufferPool.acquire(size, false);
+		assertTrue(byteBufferPool.release(buffer));
+		return buffer;
+	}
+	
+	private boolean isPooled(ByteBufferPool byteBufferPool, ByteBuffer buffer) {
+		return byteBufferPool.acquire(buffer.capacity(), buffer.isDirect()) == buffer;
+	}
+	
+	private static class SharingOutputStream extends ByteBufferOutputStream {
+		
+		private SharingOutputStream(ByteBufferPool byteBufferPool) {
+			super(byteBufferPool, false, true);
+		}
+		
+		private InputStream toInputStream() {
+			return toBufferedInputStream();
+		}
+		
+	}
+	
+}
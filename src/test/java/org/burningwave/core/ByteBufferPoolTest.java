@@ -0,0 +1,78 @@
+package org.burningwave.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.burningwave.core.io.ByteBufferPool;
+import org.junit.jupiter.api.Test;
+
+
+public class ByteBufferPoolTest extends BaseTest {
+	
+	@Test
+	public void acquireTestOne() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		ByteBuffer buffer = byteBufferPool.acquire(300, false);
+		assertEquals(512, buffer.capacity());
+		assertFalse(buffer.isDirect());
+		assertEquals(256, byteBufferPool.acquire(1, false).capacity());
+		assertEquals(1 << 20, byteBufferPool.acquire((1 << 19) + 1, false).capacity());
+		assertEquals((1 << 20) + 1, byteBufferPool.acquire((1 << 20) + 1, false).capacity());
+		assertTrue(byteBufferPool.acquire(300, true).isDirect());
+		buffer.put((byte)1);
+		assertTrue(byteBufferPool.release(buffer));
+		assertNotSame(buffer, byteBufferPool.acquire(300, true));
+		ByteBuffer reacquired = byteBufferPool.acquire(500, false);
+		assertSame(buffer, reacquired);
+		assertEquals(0, reacquired.position());
+		assertEquals(512, reacquired.limit());
+		byteBufferPool.close();
+	}
+	
+	@Test
+	public void releaseTestOne() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		assertFalse(byteBufferPool.release(null));
+		assertFalse(byteBufferPool.release(ByteBuffer.allocate(300)));
+		assertFalse(byteBufferPool.release(ByteBuffer.allocate(512).asReadOnlyBuffer()));
+		assertFalse(byteBufferPool.release(ByteBuffer.allocate((1 << 20) + 1)));
+		assertTrue(byteBufferPool.release(ByteBuffer.allocate(512)));
+		assertTrue(byteBufferPool.release(ByteBuffer.allocateDirect(512)));
+		byteBufferPool.close();
+	}
+	
+	@Test
+	public void releaseTestTwo() {
+		ByteBufferPool byteBufferPool = ByteBufferPool.create();
+		testRetentionCap(byteBufferPool, 256, 32);
+		testRetentionCap(byteBufferPool, 1 << 16, 16);
+		testRetentionCap(byteBufferPool, 1 << 20, 1);
+		byteBufferPool.close();
+		assertTrue(byteBufferPool.release(byteBufferPool.acquire(256, false)));
+	}
+	
+	private void testRetentionCap(ByteBufferPool byteBufferPool, int size, int maxPooledBuffers) {
+		Collection<ByteBuffer> buffers = new ArrayList<>();
+		for (int i = 0; i <= maxPooledBuffers; i++) {
+			buffers.add(byteBufferPool.acquire(size, false));
+		}
+		int releasedBuffers = 0;
+		for (ByteBuffer buffer : buffers) {
+			if (byteBufferPool.release(buffer)) {
+				++releasedBuffers;
+			}
+		}
+		assertEquals(maxPooledBuffers, releasedBuffers);
+		for (int i = 0; i < maxPooledBuffers; i++) {
+			assertTrue(buffers.contains(byteBufferPool.acquire(size, false)));
+		}
+	}
+	
+}
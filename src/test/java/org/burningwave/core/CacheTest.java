@@ -0,0 +1,85 @@
+package org.burningwave.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+
+public class CacheTest extends BaseTest {
+	
+	@Test
+	public void getOrUploadIfAbsentTestOne() throws Throwable {
+		Cache.ObjectForObject<String, Object> cache = new Cache.ObjectForObject<>();
+		AtomicInteger suppliersCalls = new AtomicInteger();
+		CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			Collection<Future<Object>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> {
+					startLatch.await();
+					return cache.getOrUploadIfAbsent("key", () -> {
+						suppliersCalls.incrementAndGet();
+						try {
+							Thread.sleep(50);
+						} catch (InterruptedException exc) {
+							Thread.currentThread().interrupt();
+						}
+						return new Object();
+					});
+				}));
+			}
+			startLatch.countDown();
+			for (Future<Object> result : results) {
+				Object resource = result.get(10, TimeUnit.SECONDS);
+				assertSame(cache.get("key"), resource);
+			}
+			assertEquals(1, suppliersCalls.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void getOrUploadIfAbsentTestTwo() throws Throwable {
+		Cache.ObjectForObject<String, String> cache = new Cache.ObjectForObject<>();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> result = executor.submit(() ->
+				cache.getOrUploadIfAbsent("key", () -> {
+					assertNull(cache.get("key"));
+					return cache.getOrUploadIfAbsent("key", () -> "inner") + "-outer";
+				})
+			);
+			assertEquals("inner-outer", result.get(10, TimeUnit.SECONDS));
+			assertEquals("inner-outer", cache.get("key"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void getOrUploadIfAbsentTestThree() {
+		Cache.ObjectForObject<String, String> cache = new Cache.ObjectForObject<>();
+		assertThrows(RuntimeException.class, () ->
+			cache.getOrUploadIfAbsent("key", () -> {
+				throw new IllegalStateException();
+			})
+		);
+		assertNull(cache.get("key"));
+		assertEquals("value", cache.getOrUploadIfAbsent("key", () -> "value"));
+	}
+	
+}
@@ -1,12 +1,32 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.InputStream;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.burningwave.core.assembler.ComponentContainer;
 import org.burningwave.core.assembler.ComponentSupplier;
@@ -17,10 +37,12 @@ import org.burningwave.core.classes.ClassFactory;
 import org.burningwave.core.classes.ClassSourceGenerator;
 import org.burningwave.core.classes.FunctionSourceGenerator;
 import org.burningwave.core.classes.LoadOrBuildAndDefineConfig;
+import org.burningwave.core.classes.MemoryClassLoader;
 import org.burningwave.core.classes.PojoSourceGenerator;
 import org.burningwave.core.classes.TypeDeclarationSourceGenerator;
 import org.burningwave.core.classes.UnitSourceGenerator;
 import org.burningwave.core.classes.VariableSourceGenerator;
+import org.burningwave.core.function.MultiParamsFunction;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
@@ -45,6 +67,32 @@ public class ClassFactoryTest extends BaseTest {
 		testNotNull(() -> componentSupplier.getClassFactory().loadOrBuildAndDefinePredicateSubType(Thread.currentThread().getContextClassLoader(), 10));
 	}
 	
+	@Test
+	public void getOrBuildFunctionalInterfaceClassesTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			componentSupplier.getClassFactory().loadOrBuildAndDefineFunctionalInterfaceSubTypes(Thread.currentThread().getContextClassLoader(), 12);
+			return Thread.currentThread().getContextClassLoader().loadClass("org.burningwave.core.function.ConsumerFor12Parameters");
+		});
+	}
+	
+	@Test
+	public void getOrBuildFunctionalInterfaceClassesTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new URL[] {MultiParamsFunction.class.getProtectionDomain().getCodeSource().getLocation()}, null
+		)) {
+			testNotNull(() -> componentSupplier.getClassFactory().loadOrBuildAndDefineConsumerSubType(classLoader, 4));
+			Collection<String> definedClassNames = new HashSet<>();
+			for (Class<?> cls : new ArrayList<>(ClassLoaders.retrieveLoadedClasses(classLoader))) {
+				definedClassNames.add(cls.getName());
+			}
+			assertTrue(definedClassNames.contains("org.burningwave.core.function.ConsumerFor4Parameters"));
+			assertTrue(definedClassNames.contains("org.burningwave.core.function.PredicateFor4Parameters"));
+			assertFalse(definedClassNames.contains("org.burningwave.core.function.ConsumerFor5Parameters"));
+		}
+	}
+	
 	
 	@Test
 	public void getOrBuildPojoClassTestOne() throws Exception {
@@ -80,6 +128,73 @@ public class ClassFactoryTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void getOrBuildPojoClassTestFour() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Class<?> cls = componentSupplier.getClassFactory().loadOrBuildAndDefinePojoSubType(
+				Thread.currentThread().getContextClassLoader(),
+				this.getClass().getPackage().getName() + ".TestFourPojoImpl",
+				Complex.Data.Item.class,
+				PojoInterface.class
+			);
+			assertTrue(Modifier.isPublic(cls.getConstructor(String.class).getModifiers()));
+			PojoInterface pojoObject = (PojoInterface)cls.getConstructor(String.class).newInstance("four");
+			pojoObject.setList(new ArrayList<>());
+			return pojoObject.getList();
+		});
+	}
+	
+	@Test
+	public void getOrBuildPojoClassTestFive() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		assertThrows(RuntimeException.class, () ->
+			componentSupplier.getClassFactory().loadOrBuildAndDefinePojoSubType(
+				Thread.currentThread().getContextClassLoader(),
+				this.getClass().getPackage().getName() + ".TestFivePojoImpl",
+				PojoInterface.class,
+				Runnable.class
+			)
+		);
+	}
+	
+	@Test
+	public void getOrBuildPojoClassTestSix() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		ClassFactory classFactory = componentSupplier.getClassFactory();
+		ClassFactory.PojoSubTypeRetriever sourceCodeBasedRetriever = classFactory.createPojoSubTypeRetriever(PojoSourceGenerator.createDefault());
+		String packageName = this.getClass().getPackage().getName();
+		for (int options : new int[] {PojoSourceGenerator.ALL_OPTIONS_DISABLED, PojoSourceGenerator.BUILDING_METHODS_CREATION_ENABLED}) {
+			Class<?> byteCodeBasedCls = classFactory.loadOrBuildAndDefinePojoSubType(
+				Thread.currentThread().getContextClassLoader(),
+				packageName + ".TestSixByteCodePojoImpl" + options,
+				options,
+				Complex.Data.Item.class,
+				PojoInterface.class
+			);
+			Class<?> sourceCodeBasedCls = sourceCodeBasedRetriever.loadOrBuildAndDefine(
+				Thread.currentThread().getContextClassLoader(),
+				packageName + ".TestSixSourceCodePojoImpl" + options,
+				options,
+				Complex.Data.Item.class,
+				PojoInterface.class
+			);
+			assertEquals(getConstructorsModifiers(sourceCodeBasedCls), getConstructorsModifiers(byteCodeBasedCls));
+			assertEquals(
+				options == PojoSourceGenerator.ALL_OPTIONS_DISABLED,
+				Modifier.isPublic(byteCodeBasedCls.getDeclaredConstructor(String.class).getModifiers())
+			);
+		}
+	}
+	
+	private Map<String, Integer> getConstructorsModifiers(Class<?> cls) {
+		Map<String, Integer> constructorsModifiers = new HashMap<>();
+		for (Constructor<?> constructor : cls.getDeclaredConstructors()) {
+			constructorsModifiers.put(Arrays.toString(constructor.getParameterTypes()), constructor.getModifiers());
+		}
+		return constructorsModifiers;
+	}
+	
 	@Test
 	public void getOrBuildClassTestOne() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -109,6 +224,89 @@ public class ClassFactoryTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void getOrBuildClassTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Supplier<UnitSourceGenerator> unitSGSupplier = () -> UnitSourceGenerator.create("tryyy").addClass(
+			ClassSourceGenerator.create(
+				TypeDeclarationSourceGenerator.create("ReTryTwo")
+			).addModifier(
+				Modifier.PUBLIC
+			)
+		);
+		testNotNull(() -> {
+			Class<?> cls = componentSupplier.getClassFactory().loadOrBuildAndDefine(
+				unitSGSupplier.get()
+			).get(
+				"tryyy.ReTryTwo"
+			);
+			Class<?> reloadedCls = componentSupplier.getClassFactory().loadOrBuildAndDefine(
+				unitSGSupplier.get()
+			).get(
+				"tryyy.ReTryTwo"
+			);
+			return cls == reloadedCls ? reloadedCls : null;
+		});
+	}
+	
+	@Test
+	public void getOrBuildClassTestFour() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Supplier<UnitSourceGenerator> unitSGSupplier = () -> UnitSourceGenerator.create("tryyy").addClass(
+			ClassSourceGenerator.create(
+				TypeDeclarationSourceGenerator.create("ReTryFour")
+			).addModifier(
+				Modifier.PUBLIC
+			)
+		);
+		try (MemoryClassLoader classLoader = MemoryClassLoader.create(Thread.currentThread().getContextClassLoader())) {
+			CountDownLatch startLatch = new CountDownLatch(1);
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				Collection<Future<Class<?>>> results = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					results.add(executor.submit(() -> {
+						startLatch.await();
+						return componentSupplier.getClassFactory().loadOrBuildAndDefine(
+							LoadOrBuildAndDefineConfig.forUnitSourceGenerator(unitSGSupplier.get()).useClassLoader(classLoader)
+						).get(
+							"tryyy.ReTryFour"
+						);
+					}));
+				}
+				startLatch.countDown();
+				Class<?> cls = null;
+				for (Future<Class<?>> result : results) {
+					Class<?> builtCls = result.get(120, TimeUnit.SECONDS);
+					assertSame(classLoader, builtCls.getClassLoader());
+					if (cls == null) {
+						cls = builtCls;
+					}
+					assertSame(cls, builtCls);
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+	
+	@Test
+	public void getOrBuildClassTestThree() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Supplier<UnitSourceGenerator> unitSGSupplier = () -> UnitSourceGenerator.create("tryyy").addClass(
+			ClassSourceGenerator.create(
+				TypeDeclarationSourceGenerator.create("ReTryThree")
+			).addModifier(
+				Modifier.PUBLIC
+			)
+		);
+		assertThrows(RuntimeException.class, () ->
+			componentSupplier.getClassFactory().loadOrBuildAndDefine(
+				LoadOrBuildAndDefineConfig.forUnitSourceGenerator(unitSGSupplier.get(), unitSGSupplier.get())
+			)
+		);
+	}
+	
 	
 	@Test
 	public void getOrBuildClassWithExternalClassOneParallelized() {
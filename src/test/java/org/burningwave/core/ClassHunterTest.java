@@ -1,11 +1,19 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
 import java.io.Closeable;
 import java.io.Serializable;
+import java.lang.reflect.Member;
 import java.math.BigDecimal;
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.bean.Complex;
@@ -1096,4 +1104,59 @@ public class ClassHunterTest extends BaseTest {
 				result.getClasses()
 		);
 	}
+	
+	@Test
+	public void findAllWithCollectedMembersTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		MethodCriteria methodCriteria = MethodCriteria.forName(
+			(methodName) -> methodName.equals("apply")
+		);
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getMainClassPaths()
+				).by(
+					ClassCriteria.create().byMembers(
+						methodCriteria
+					).and().allThat((cls) ->
+						!cls.isInterface()
+					).and().className((className) ->
+						className.startsWith("org.burningwave.core.service.")
+					).collectMembers(true)
+				)
+			),
+			(result) -> {
+				Collection<Member> membersFound = new HashSet<>();
+				result.getMembersFlatMap().values().forEach(membersFound::addAll);
+				return membersFound;
+			}
+		);
+	}
+	
+	@Test
+	public void findAllWithCollectedMembersTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Collection<Collection<Class<?>>> classesFound = new ArrayList<>();
+		for (boolean collectMembers : new boolean[] {false, true}) {
+			try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getMainClassPaths()
+				).by(
+					ClassCriteria.create().byMembers(
+						MethodCriteria.forName((methodName) -> methodName.startsWith("apply"))
+					).or().className((className) ->
+						className.endsWith("Service")
+					).and().packageName((packageName) ->
+						"org.burningwave.core.service".equals(packageName)
+					).collectMembers(collectMembers)
+				)
+			)) {
+				classesFound.add(new HashSet<>(result.getClasses()));
+			}
+		}
+		Iterator<Collection<Class<?>>> classesFoundIterator = classesFound.iterator();
+		Collection<Class<?>> classesFoundWithoutCollectingMembers = classesFoundIterator.next();
+		assertFalse(classesFoundWithoutCollectingMembers.isEmpty());
+		assertEquals(classesFoundWithoutCollectingMembers, classesFoundIterator.next());
+	}
 }
@@ -2,6 +2,8 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 
+import java.lang.reflect.Constructor;
+
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.FunctionalInterfaceFactory;
 import org.burningwave.core.service.ExtendedService;
@@ -24,4 +26,17 @@ public class ConstructorsTest extends BaseTest {
 			)
 		);
 	}
+	
+	@Test
+	public void findOneAndMakeItAccessibleTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Constructor<?> constructor = Constructors.findOneAndMakeItAccessible(
+				FunctionalInterfaceFactory.class, componentSupplier.getClassFactory()
+			);
+			return constructor == Constructors.findOneAndMakeItAccessible(
+				FunctionalInterfaceFactory.class, componentSupplier.getClassFactory()
+			) ? constructor : null;
+		});
+	}
 }
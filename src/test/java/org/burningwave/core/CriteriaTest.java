@@ -0,0 +1,172 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import org.burningwave.core.Criteria.LogicalOperation;
+import org.burningwave.core.Criteria.PredicatesSorting;
+import org.burningwave.core.classes.ClassCriteria;
+import org.junit.jupiter.api.Test;
+
+
+public class CriteriaTest extends BaseTest {
+	
+	@Test
+	public void compileTestOne() {
+		BiPredicate<Object, Integer> positive = (context, value) -> value > 0;
+		BiPredicate<Object, Integer> even = (context, value) -> value % 2 == 0;
+		BiPredicate<Object, Integer> small = (context, value) -> value < 100;
+		BiPredicate<Object, Integer> notTen = (context, value) -> value != 10;
+		BiPredicate<Object, Integer> predicate = LogicalOperation.and(
+			LogicalOperation.and(positive, even), LogicalOperation.and(small, notTen)
+		);
+		BiPredicate<Object, Integer> compiled = LogicalOperation.compile(predicate, PredicatesSorting.NONE);
+		assertTrue(compiled instanceof LogicalOperation);
+		assertEquals(4, Fields.<BiPredicate<?, ?>[]>get(compiled, "operands").length);
+		assertSame(compiled, LogicalOperation.compile(predicate, PredicatesSorting.NONE));
+		assertTrue(compiled.test(null, 4));
+		assertFalse(compiled.test(null, 10));
+		assertFalse(compiled.test(null, 3));
+		
+		BiPredicate<Object, Integer> mixed = LogicalOperation.and(positive, LogicalOperation.or(even, small));
+		BiPredicate<?, ?>[] mixedOperands = Fields.get(LogicalOperation.compile(mixed, PredicatesSorting.NONE), "operands");
+		assertEquals(2, mixedOperands.length);
+		assertTrue(mixedOperands[1] instanceof LogicalOperation);
+		assertTrue(LogicalOperation.compile(mixed, PredicatesSorting.NONE).test(null, 102));
+		assertFalse(LogicalOperation.compile(mixed, PredicatesSorting.NONE).test(null, 101));
+	}
+	
+	@Test
+	public void compileTestTwo() {
+		List<String> evaluated = new CopyOnWriteArrayList<>();
+		BiPredicate<Object, Integer> alwaysFalse = (context, value) -> evaluated.add("false") && false;
+		BiPredicate<Object, Integer> alwaysTrue = (context, value) -> evaluated.add("true");
+		BiPredicate<Object, Integer> conjunction = LogicalOperation.compile(
+			LogicalOperation.and(LogicalOperation.and(alwaysFalse, alwaysTrue), alwaysTrue), PredicatesSorting.NONE
+		);
+		assertFalse(conjunction.test(null, 1));
+		assertEquals(Arrays.asList("false"), evaluated);
+		evaluated.clear();
+		BiPredicate<Object, Integer> disjunction = LogicalOperation.compile(
+			LogicalOperation.or(LogicalOperation.or(alwaysTrue, alwaysFalse), alwaysFalse), PredicatesSorting.NONE
+		);
+		assertTrue(disjunction.test(null, 1));
+		assertEquals(Arrays.asList("true"), evaluated);
+	}
+	
+	@Test
+	public void compileTestThree() {
+		List<String> evaluated = new CopyOnWriteArrayList<>();
+		BiPredicate<Object, Integer> predicate = LogicalOperation.and(
+			LogicalOperation.and(
+				Criteria.withCost((context, value) -> evaluated.add("expensive"), 10),
+				(context, value) -> evaluated.add("default")
+			),
+			Criteria.withCost((context, value) -> evaluated.add("cheap"), -10)
+		);
+		assertTrue(LogicalOperation.compile(predicate, PredicatesSorting.NONE).test(null, 1));
+		assertEquals(Arrays.asList("expensive", "default", "cheap"), evaluated);
+		evaluated.clear();
+		assertTrue(LogicalOperation.compile(predicate, PredicatesSorting.ALL).test(null, 1));
+		assertEquals(Arrays.asList("cheap", "default", "expensive"), evaluated);
+	}
+	
+	@Test
+	public void compileTestFour() {
+		Random random = new Random(42);
+		for (int i = 0; i < 200; i++) {
+			BiPredicate<Object, Integer> predicate = createRandomPredicate(random, 3);
+			BiPredicate<Object, Integer> unsorted = LogicalOperation.compile(predicate, PredicatesSorting.NONE);
+			BiPredicate<Object, Integer> sortedConjunctions = LogicalOperation.compile(predicate, PredicatesSorting.CONJUNCTIONS);
+			BiPredicate<Object, Integer> sorted = LogicalOperation.compile(predicate, PredicatesSorting.ALL);
+			for (int value = 0; value < 256; value++) {
+				boolean expected = unsorted.test(null, value);
+				assertEquals(expected, sortedConjunctions.test(null, value));
+				assertEquals(expected, sorted.test(null, value));
+			}
+		}
+	}
+	
+	private BiPredicate<Object, Integer> createRandomPredicate(Random random, int depth) {
+		if (depth == 0 || random.nextInt(3) == 0) {
+			int bit = random.nextInt(8);
+			BiPredicate<Object, Integer> predicate = (context, value) -> ((value >> bit) & 1) == 1;
+			return random.nextBoolean() ? Criteria.withCost(predicate, random.nextInt(5) - 2) : predicate;
+		}
+		BiPredicate<Object, Integer> left = createRandomPredicate(random, depth - 1);
+		BiPredicate<Object, Integer> right = createRandomPredicate(random, depth - 1);
+		return random.nextBoolean() ? LogicalOperation.and(left, right) : LogicalOperation.or(left, right);
+	}
+	
+	@Test
+	public void testRecyclingContextAndReturnFalseIfNullOrTrueByDefaultTestOne() throws Exception {
+		ClassCriteria criteria = ClassCriteria.create().allThat(cls -> cls.getName().length() % 2 == 0);
+		List<Class<?>> classes = Arrays.asList(
+			Object.class, String.class, Integer.class, Long.class, List.class, Map.class, Set.class,
+			Collection.class, ArrayList.class, Arrays.class, Collections.class, Criteria.class
+		);
+		Collection<String> failures = new ConcurrentLinkedQueue<>();
+		Map<Object, Boolean> trueResultContexts = Collections.synchronizedMap(new IdentityHashMap<>());
+		Set<Object> falseResultContexts = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
+		AtomicInteger trueResultsCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			Collection<Future<?>> tasks = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				tasks.add(executor.submit(() -> {
+					for (int j = 0; j < 2000; j++) {
+						Class<?> cls = classes.get(j % classes.size());
+						boolean expected = cls.getName().length() % 2 == 0;
+						ClassCriteria.TestContext context = criteria.testRecyclingContextAndReturnFalseIfNullOrTrueByDefault(cls);
+						if (context.getResult() != expected) {
+							failures.add("Wrong result for " + cls);
+						} else if (expected) {
+							trueResultsCount.incrementAndGet();
+							if (trueResultContexts.put(context, Boolean.TRUE) != null) {
+								failures.add("True result context reused for " + cls);
+							}
+							if (context.getEntity() != cls) {
+								failures.add("True result context of " + cls + " refers to " + context.getEntity());
+							}
+						} else {
+							falseResultContexts.add(context);
+						}
+					}
+				}));
+			}
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue(failures.isEmpty(), failures.toString());
+		assertEquals(trueResultsCount.get(), trueResultContexts.size());
+		assertEquals(1, falseResultContexts.size());
+		Object falseResultContext = falseResultContexts.iterator().next();
+		assertFalse(((ClassCriteria.TestContext)falseResultContext).getResult());
+		assertNotSame(falseResultContext, criteria.testRecyclingContextAndReturnFalseIfNullOrTrueByDefault(String.class));
+		assertSame(falseResultContext, criteria.testRecyclingContextAndReturnFalseIfNullOrTrueByDefault(null));
+	}
+}
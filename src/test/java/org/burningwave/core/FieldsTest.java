@@ -0,0 +1,89 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+
+public class FieldsTest extends BaseTest {
+	
+	@Test
+	public void getAllTestOne() {
+		Item item = new Item("item", 3, 5L);
+		Object[] values = Fields.getAll(item);
+		assertEquals(5, values.length);
+		assertEquals(
+			Arrays.asList("item", true, 1.5D, 3, 5L),
+			Arrays.asList(values)
+		);
+	}
+	
+	@Test
+	public void copyAllTestOne() {
+		Item source = new Item("source", 3, 5L);
+		Item destination = new Item("destination", 0, 0L);
+		Item.description = "static";
+		assertSame(destination, Fields.copyAll(source, destination));
+		assertEquals("source", destination.name);
+		assertEquals(true, destination.flag);
+		assertEquals(1.5D, destination.ratio);
+		assertEquals(3, destination.id);
+		assertEquals(5L, destination.counter);
+		assertEquals("static", Item.description);
+	}
+	
+	@Test
+	public void cloneTestOne() {
+		Item source = new Item("source", 7, 11L);
+		Item clone = Fields.getAccessor(Item.class).clone(source);
+		assertNotSame(source, clone);
+		assertEquals(
+			Arrays.asList(Fields.getAll(source)),
+			Arrays.asList(Fields.getAll(clone))
+		);
+	}
+	
+	@Test
+	public void setAllTestOne() {
+		Base base = new Base(0, 0L);
+		Fields.getAccessor(Base.class).setAll(base, new Object[] {13, 17L});
+		assertEquals(13, base.id);
+		assertEquals(17L, base.counter);
+		assertThrows(RuntimeException.class, () ->
+			Fields.getAccessor(Base.class).setAll(base, new Object[] {null, 17L})
+		);
+		assertThrows(RuntimeException.class, () ->
+			Fields.getAccessor(Item.class).setAll(new Item("item", 0, 0L), Fields.getAll(new Item("other", 1, 1L)))
+		);
+	}
+	
+	public static class Base {
+		static String description;
+		protected int id;
+		volatile long counter;
+		
+		public Base(int id, long counter) {
+			this.id = id;
+			this.counter = counter;
+		}
+	}
+	
+	public static class Item extends Base {
+		private final String name;
+		boolean flag;
+		double ratio;
+		
+		public Item(String name, int id, long counter) {
+			super(id, counter);
+			this.name = name;
+			this.flag = true;
+			this.ratio = 1.5D;
+		}
+	}
+}
@@ -1,13 +1,23 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Method;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongToIntFunction;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.MethodCriteria;
@@ -189,4 +199,44 @@ public class FunctionalInterfaceFactoryTest extends BaseTest {
 			virtualObj.run();
 		});
 	}
+	
+	@Test
+	public void createPrimitiveSpecializedTestOne() throws Throwable {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		LongBinaryOperator max = componentSupplier.getFunctionalInterfaceFactory().createPrimitiveSpecialized(
+			Math.class.getMethod("max", long.class, long.class)
+		);
+		ToIntFunction<Integer> intValue = componentSupplier.getFunctionalInterfaceFactory().createPrimitiveSpecialized(
+			Integer.class.getMethod("intValue")
+		);
+		assertEquals(42, intValue.applyAsInt(42));
+		assertEquals(Long.MAX_VALUE, max.applyAsLong(Long.MAX_VALUE, -1L));
+		assertEquals(2L, max.applyAsLong(intValue.applyAsInt(1), 2L));
+	}
+	
+	@Test
+	public void createPrimitiveSpecializedTestTwo() throws Throwable {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		IntPredicate isDigit = componentSupplier.getFunctionalInterfaceFactory().createPrimitiveSpecialized(
+			Character.class.getMethod("isDigit", int.class)
+		);
+		DoubleUnaryOperator abs = componentSupplier.getFunctionalInterfaceFactory().createPrimitiveSpecialized(
+			Math.class.getMethod("abs", double.class)
+		);
+		IntBinaryOperator floorMod = componentSupplier.getFunctionalInterfaceFactory().createPrimitiveSpecialized(
+			Math.class.getMethod("floorMod", int.class, int.class)
+		);
+		LongToIntFunction signum = componentSupplier.getFunctionalInterfaceFactory().createPrimitiveSpecialized(
+			Long.class.getMethod("signum", long.class)
+		);
+		IntFunction<String> toString = componentSupplier.getFunctionalInterfaceFactory().createPrimitiveSpecialized(
+			Integer.class.getMethod("toString", int.class)
+		);
+		assertTrue(isDigit.test('7'));
+		assertFalse(isDigit.test('x'));
+		assertEquals(2.5D, abs.applyAsDouble(-2.5D));
+		assertEquals(2, floorMod.applyAsInt(-7, 3));
+		assertEquals(-1, signum.applyAsInt(-5L));
+		assertEquals("42", toString.apply(42));
+	}
 }
@@ -0,0 +1,51 @@
+package org.burningwave.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.iterable.IterableObjectHelper;
+import org.burningwave.core.iterable.Properties;
+import org.junit.jupiter.api.Test;
+
+
+public class IterableObjectHelperTest extends BaseTest {
+	
+	@Test
+	public void getTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		IterableObjectHelper iterableObjectHelper = componentSupplier.getIterableObjectHelper();
+		Properties properties = new Properties();
+		properties.put("value", "1");
+		properties.put("reference", "${value}-x");
+		assertEquals("1-x", iterableObjectHelper.get(properties, "reference"));
+		properties.replace("value", "2");
+		assertEquals("2-x", iterableObjectHelper.get(properties, "reference"));
+		properties.replace("value", "2", "3");
+		assertEquals("3-x", iterableObjectHelper.get(properties, "reference"));
+		properties.merge("value", "4", (oldValue, newValue) -> newValue);
+		assertEquals("4-x", iterableObjectHelper.get(properties, "reference"));
+		properties.compute("value", (key, oldValue) -> "5");
+		assertEquals("5-x", iterableObjectHelper.get(properties, "reference"));
+		properties.computeIfPresent("value", (key, oldValue) -> "6");
+		assertEquals("6-x", iterableObjectHelper.get(properties, "reference"));
+		properties.replaceAll((key, oldValue) -> "value".equals(key) ? "7" : oldValue);
+		assertEquals("7-x", iterableObjectHelper.get(properties, "reference"));
+	}
+	
+	@Test
+	public void getTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		IterableObjectHelper iterableObjectHelper = componentSupplier.getIterableObjectHelper();
+		Properties properties = new Properties();
+		properties.put("value", "1");
+		properties.put("reference", "${value}-x");
+		assertEquals("1-x", iterableObjectHelper.get(properties, "reference"));
+		properties.clear();
+		properties.put("reference", "${value}+y");
+		properties.putIfAbsent("value", "2");
+		assertEquals("2+y", iterableObjectHelper.get(properties, "reference"));
+		properties.remove("value", "2");
+		properties.computeIfAbsent("value", key -> "3");
+		assertEquals("3+y", iterableObjectHelper.get(properties, "reference"));
+	}
+}
@@ -0,0 +1,152 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+
+public class ManagedLoggerTest extends BaseTest {
+	
+	@Test
+	public void logTestOne() {
+		Client client = new Client();
+		AtomicInteger suppliersCalls = new AtomicInteger();
+		Supplier<String> messageSupplier = () -> "message " + suppliersCalls.incrementAndGet();
+		client.disableLogging();
+		try {
+			assertFalse(client.isLoggingEnabledFor(LoggingLevel.DEBUG));
+			client.logDebug(messageSupplier);
+			client.logInfo(messageSupplier);
+			client.logWarn(messageSupplier);
+			assertEquals(0, suppliersCalls.get());
+		} finally {
+			client.enableLogging();
+		}
+		client.logInfo(messageSupplier);
+		assertEquals(client.isLoggingEnabledFor(LoggingLevel.INFO) ? 1 : 0, suppliersCalls.get());
+	}
+	
+	@Test
+	public void logTestTwo() {
+		Client client = new Client();
+		AtomicInteger suppliersCalls = new AtomicInteger();
+		Supplier<String> messageSupplier = () -> "message " + suppliersCalls.incrementAndGet();
+		boolean enabled = ManagedLoggersRepository.isEnabled();
+		ManagedLoggersRepository.disableLogging();
+		try {
+			assertFalse(client.isLoggingEnabledFor(LoggingLevel.WARN));
+			client.logDebug(messageSupplier);
+			client.logInfo(messageSupplier);
+			client.logWarn(messageSupplier);
+			assertEquals(0, suppliersCalls.get());
+		} finally {
+			if (enabled) {
+				ManagedLoggersRepository.enableLogging();
+			}
+		}
+	}
+	
+	@Test
+	public void isLoggingEnabledForTestOne() {
+		SLF4JManagedLoggerRepository repository = new SLF4JManagedLoggerRepository(new Properties());
+		org.slf4j.Logger logger = LoggerFactory.getLogger(WarnLevelClient.class);
+		assertEquals(LoggingLevel.ALL_LEVEL_ENABLED, (int)repository.getLoggingLevelFlags(WarnLevelClient.class));
+		assertFalse(repository.isLoggingEnabledFor(WarnLevelClient.class, LoggingLevel.TRACE));
+		assertFalse(repository.isLoggingEnabledFor(WarnLevelClient.class, LoggingLevel.DEBUG));
+		assertFalse(repository.isLoggingEnabledFor(WarnLevelClient.class, LoggingLevel.INFO));
+		assertEquals(logger.isWarnEnabled(), repository.isLoggingEnabledFor(WarnLevelClient.class, LoggingLevel.WARN));
+		assertEquals(logger.isErrorEnabled(), repository.isLoggingEnabledFor(WarnLevelClient.class, LoggingLevel.ERROR));
+		repository.removeLoggingLevelFor(LoggingLevel.WARN, WarnLevelClient.class.getName());
+		assertFalse(repository.isLoggingEnabledFor(WarnLevelClient.class, LoggingLevel.WARN));
+		repository.disableLogging();
+		assertFalse(repository.isLoggingEnabledFor(WarnLevelClient.class, LoggingLevel.ERROR));
+	}
+	
+	@Test
+	public void addLoggingLevelForTestOne() {
+		SimpleManagedLoggerRepository repository = new SimpleManagedLoggerRepository(new Properties());
+		repository.removeLoggingLevelFor(LoggingLevel.DEBUG, Client.class.getName());
+		assertFalse(repository.isLoggingEnabledFor(Client.class, LoggingLevel.DEBUG));
+		assertTrue(repository.isLoggingEnabledFor(Client.class, LoggingLevel.INFO));
+		repository.addLoggingLevelFor(LoggingLevel.DEBUG, Client.class.getName());
+		assertTrue(repository.isLoggingEnabledFor(Client.class, LoggingLevel.DEBUG));
+		assertTrue(repository.isLoggingEnabledFor(Client.class, LoggingLevel.INFO));
+		assertEquals(LoggingLevel.ALL_LEVEL_ENABLED, (int)repository.getLoggingLevelFlags(Client.class));
+	}
+	
+	@Test
+	public void executeWithLoggingDisabledForTestOne() throws Throwable {
+		SimpleManagedLoggerRepository repository = new SimpleManagedLoggerRepository(new Properties());
+		int threadCount = 8;
+		CyclicBarrier barrier = new CyclicBarrier(threadCount);
+		Collection<Throwable> exceptions = new ConcurrentLinkedQueue<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					repository.executeWithLoggingDisabledFor(Client.class, () -> {
+						barrier.await(10, TimeUnit.SECONDS);
+						assertFalse(repository.isLoggingEnabledFor(Client.class, LoggingLevel.ERROR));
+						repository.executeWithLoggingDisabledFor(Client.class, () -> {
+							assertFalse(repository.isLoggingEnabledFor(Client.class, LoggingLevel.ERROR));
+							return null;
+						});
+						assertFalse(repository.isLoggingEnabledFor(Client.class, LoggingLevel.ERROR));
+						barrier.await(10, TimeUnit.SECONDS);
+						return null;
+					});
+				} catch (Throwable exc) {
+					exceptions.add(exc);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (!exceptions.isEmpty()) {
+			throw exceptions.iterator().next();
+		}
+		assertTrue(repository.isLoggingEnabledFor(Client.class, LoggingLevel.DEBUG));
+		assertEquals(LoggingLevel.ALL_LEVEL_ENABLED, (int)repository.getLoggingLevelFlags(Client.class));
+	}
+	
+	@Test
+	public void getLoggingLevelFlagsTestOne() {
+		SimpleManagedLoggerRepository repository = new SimpleManagedLoggerRepository(new Properties());
+		repository.removeLoggingLevelFor(LoggingLevel.TRACE, Client.class.getName());
+		int flags = repository.getLoggingLevelFlags(Client.class);
+		repository.executeWithLoggingDisabledFor(Client.class, () -> {
+			assertFalse(repository.isLoggingEnabledFor(Client.class, LoggingLevel.INFO));
+			assertEquals(flags, (int)repository.getLoggingLevelFlags(Client.class));
+			return null;
+		});
+		assertEquals(flags, (int)repository.getLoggingLevelFlags(Client.class));
+		assertFalse(repository.isLoggingEnabledFor(Client.class, LoggingLevel.TRACE));
+		assertTrue(repository.isLoggingEnabledFor(Client.class, LoggingLevel.INFO));
+	}
+	
+	private static class Client implements ManagedLogger {
+		
+	}
+	
+	private static class WarnLevelClient implements ManagedLogger {
+		
+	}
+	
+}
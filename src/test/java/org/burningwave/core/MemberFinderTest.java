@@ -1,6 +1,11 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
 
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.service.ExtendedService;
@@ -50,4 +55,34 @@ public class MemberFinderTest extends BaseTest {
 			)
 		);
 	}	
+	
+	@Test
+	public void invokeAllTestOne() {
+		testNotNull(() -> {
+			Methods.invokeAll(new Service(), "apply|accept", "Hello");
+			return Methods.invokeAll(new Service(), "apply|accept", "Hello", "World!");
+		});
+	}
+	
+	@Test
+	public void invokeAllTestTwo() {
+		testNotEmpty(() -> Methods.invokeAll(new Service(), "run|staticRun", (Object[])null));
+	}
+	
+	@Test
+	public void invokeAllTestThree() {
+		RuntimeException exception = assertThrows(RuntimeException.class, () ->
+			Methods.invokeAll(Integer.class, "parseInt", "not a number")
+		);
+		assertTrue(exception.getCause() instanceof InvocationTargetException);
+		assertTrue(exception.getCause().getCause() instanceof NumberFormatException);
+	}
+	
+	@Test
+	public void findOneAndMakeItAccessibleTestOne() {
+		testNotNull(() -> {
+			Methods.findOneAndMakeItAccessible(new Service(), "apply", 1L);
+			return Methods.findOneAndMakeItAccessible(new Service(), "apply", "Hello", "World", "!");
+		});
+	}
 }
@@ -1,8 +1,23 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +42,60 @@ public class PathHelperTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void comparePathsTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		PathHelper pathHelper = componentSupplier.getPathHelper();
+		testNotEmpty(() -> {
+			Collection<String> mainClassPaths = pathHelper.optimize(pathHelper.getMainClassPaths());
+			return pathHelper.comparePaths(mainClassPaths, mainClassPaths).getContainedPaths().keySet();
+		});
+	}
+	
+	@Test
+	public void getResourcesFromIndexedArchiveTestOne() throws IOException {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		PathHelper pathHelper = componentSupplier.getPathHelper();
+		File archive = File.createTempFile("path-helper-index-test", ".jar");
+		try {
+			String archivePath = Paths.normalizeAndClean(archive.getAbsolutePath());
+			writeArchive(archive, "index-test/Resource.txt", "index-test/Other.txt");
+			pathHelper.loadPaths("archive-index-test", archivePath);
+			
+			Collection<FileSystemItem> resources = pathHelper.getResources("index-test/Resource.txt");
+			assertEquals(1, resources.size());
+			assertEquals(archivePath + "/index-test/Resource.txt", resources.iterator().next().getAbsolutePath());
+			
+			assertTrue(pathHelper.getResources("index-test/Missing.txt").isEmpty());
+			assertNull(Cache.pathForFileSystemItems.get(archivePath + "/index-test/Missing.txt"));
+			
+			for (String resourceRelativePath : new String[] {"", "/"}) {
+				Collection<FileSystemItem> probedResources = new HashSet<>();
+				for (String path : pathHelper.getAllPaths()) {
+					FileSystemItem fileSystemItem = FileSystemItem.ofPath(path + "/" + resourceRelativePath);
+					if (fileSystemItem.exists()) {
+						probedResources.add(fileSystemItem);
+					}
+				}
+				assertEquals(probedResources, new HashSet<>(pathHelper.getResources(resourceRelativePath)));
+			}
+			
+			writeArchive(archive, "index-test/Other.txt", "index-test/Another.txt");
+			archive.setLastModified(archive.lastModified() + 2000);
+			assertTrue(pathHelper.getResources("index-test/Resource.txt").isEmpty());
+		} finally {
+			archive.delete();
+		}
+	}
 	
+	private void writeArchive(File archive, String... entryNames) throws IOException {
+		try (ZipOutputStream outputStream = new ZipOutputStream(new FileOutputStream(archive))) {
+			for (String entryName : entryNames) {
+				outputStream.putNextEntry(new ZipEntry(entryName));
+				outputStream.write(entryName.getBytes(StandardCharsets.UTF_8));
+				outputStream.closeEntry();
+			}
+		}
+	}
 	
 }
@@ -17,6 +17,14 @@ public class PropertyAccessorTest extends BaseTest {
 		assertNotNull(componentSupplier.getByFieldOrByMethodPropertyAccessor().get(complex, "data.itemsMap[items][1][1].name"));
 	}
 	
+	@Test
+	public void getTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Complex complex = new Complex();
+		assertNotNull(componentSupplier.getByMethodOrByFieldPropertyAccessor().get(complex, "data.items[1][1].name"));
+		assertNotNull(componentSupplier.getByMethodOrByFieldPropertyAccessor().get(complex, "data.items[1][1].name"));
+	}
+	
 	
 	@Test
 	public void setTestOne() {
@@ -0,0 +1,98 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+public class StreamsTest extends BaseTest {
+	
+	@Test
+	public void toByteBufferTestOne() throws Throwable {
+		byte[] bytes = createRandomBytes(Streams.defaultBufferSize * 3 + 7);
+		File file = createTempFile(bytes);
+		try {
+			try (FileInputStream inputStream = new FileInputStream(file)) {
+				ByteBuffer content = Streams.toByteBuffer(inputStream);
+				assertFalse(content.isReadOnly());
+				assertEquals(ByteBuffer.wrap(bytes), content);
+				assertEquals(-1, inputStream.read());
+			}
+			try (FileInputStream inputStream = new FileInputStream(file)) {
+				inputStream.skip(10);
+				assertEquals(ByteBuffer.wrap(bytes, 10, bytes.length - 10), Streams.toByteBuffer(inputStream));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void toByteBufferTestTwo() throws Throwable {
+		byte[] bytes = createRandomBytes((int)Streams.memoryMappingThreshold);
+		File file = createTempFile(bytes);
+		try {
+			try (FileInputStream inputStream = new FileInputStream(file)) {
+				ByteBuffer content = Streams.toByteBuffer(inputStream);
+				assertTrue(content.isReadOnly());
+				assertEquals(ByteBuffer.wrap(bytes), content);
+				assertEquals(-1, inputStream.read());
+			}
+			try (FileInputStream inputStream = new FileInputStream(file)) {
+				inputStream.skip(1);
+				ByteBuffer content = Streams.toByteBuffer(inputStream);
+				assertFalse(content.isReadOnly());
+				assertEquals(ByteBuffer.wrap(bytes, 1, bytes.length - 1), content);
+			}
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void toByteBufferTestThree() throws Throwable {
+		File file = createTempFile(new byte[0]);
+		try (FileInputStream inputStream = new FileInputStream(file)) {
+			assertEquals(0, Streams.toByteBuffer(inputStream).remaining());
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void toByteBufferTestFour() throws Throwable {
+		File file = new File("/proc/self/cmdline");
+		if (!file.exists()) {
+			return;
+		}
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		try (FileInputStream inputStream = new FileInputStream(file)) {
+			assertEquals(0, inputStream.getChannel().size());
+			ByteBuffer content = Streams.toByteBuffer(inputStream);
+			assertTrue(content.remaining() > 0);
+			assertEquals(ByteBuffer.wrap(bytes), content);
+		}
+	}
+	
+	private byte[] createRandomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+	
+	private File createTempFile(byte[] bytes) throws Throwable {
+		File file = File.createTempFile("streams-test", ".bin");
+		Files.write(file.toPath(), bytes);
+		return file;
+	}
+	
+}
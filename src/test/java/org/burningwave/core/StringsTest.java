@@ -2,6 +2,8 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.regex.Pattern;
 
@@ -23,4 +25,29 @@ public class StringsTest extends BaseTest {
 				.getName().replace(".", "/")+ ".class").toString())
 		);
 	}
+	
+	@Test
+	public void cleanTestOne() {
+		boolean removeBoundarySeparators = System.getProperty("os.name").toLowerCase().contains("windows");
+		assertEquals("folder/sub-folder/file.txt", Paths.clean("folder\\sub-folder//file.txt"));
+		assertEquals("folder/sub-folder/file.txt", Paths.clean("folder\\\\sub-folder\\/\\file.txt"));
+		assertEquals("a/b/c", Paths.clean("a///b////c"));
+		assertEquals(
+			removeBoundarySeparators ? "folder/sub-folder/file.txt" : "/folder/sub-folder/file.txt",
+			Paths.clean("\\folder\\sub-folder//file.txt")
+		);
+		assertEquals(removeBoundarySeparators ? "/folder" : "/folder/", Paths.clean("//folder\\"));
+		String cleanedPath = "folder/sub-folder/file.txt";
+		assertSame(cleanedPath, Paths.clean(cleanedPath));
+		assertSame("", Paths.clean(""));
+	}
+	
+	@Test
+	public void countSeparatorsTestOne() {
+		assertEquals(0, Paths.countSeparators(""));
+		assertEquals(0, Paths.countSeparators("file.txt"));
+		assertEquals(2, Paths.countSeparators("folder/sub-folder/file.txt"));
+		assertEquals(3, Paths.countSeparators("/folder/sub-folder/"));
+		assertEquals(Paths.countSeparators("folder/sub-folder/file.txt"), Paths.countSeparators(Paths.clean("folder\\sub-folder//file.txt")));
+	}
 }
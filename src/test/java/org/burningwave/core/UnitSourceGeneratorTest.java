@@ -1,5 +1,8 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.SourceCodeHandler;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -203,4 +206,58 @@ public class UnitSourceGeneratorTest extends BaseTest {
 		unitSG.storeToClassPath(System.getProperty("user.home") + "/Desktop/bw-tests");
         System.out.println("\nGenerated code:\n" + unitSG.make());
 	}
+	
+	@Test
+	public void generateUnitIntoSharedBufferTest() throws Throwable {
+		testDoesNotThrow(() -> {
+			UnitSourceGenerator unit = UnitSourceGenerator.create("code.generator.buffer").addClass(
+				ClassSourceGenerator.create(TypeDeclarationSourceGenerator.create("Outer")).addModifier(Modifier.PUBLIC).addInnerClass(
+					ClassSourceGenerator.create(TypeDeclarationSourceGenerator.create("Inner")).addModifier(Modifier.PUBLIC | Modifier.STATIC).addMethod(
+						FunctionSourceGenerator.create("get").setReturnType(Integer.class).addModifier(Modifier.PUBLIC).addBodyCodeRow("return 1;")
+					)
+				)
+			);
+			StringBuilder output = new StringBuilder("//Generated\n");
+			unit.make(output);
+			assertTrue(output.toString().equals("//Generated\n" + unit.make()));
+			assertTrue(output.indexOf("\n\t\tpublic Integer get() {") > 0);
+		});
+	}
+	
+	@Test
+	public void structuralHashCodeAndMemoizedCodeTest() throws Throwable {
+		testDoesNotThrow(() -> {
+			UnitSourceGenerator unitOne = SourceCodeHandler.generateFunction("code.generator.memo.Function", 4);
+			UnitSourceGenerator unitTwo = SourceCodeHandler.generateFunction("code.generator.memo.Function", 4);
+			assertTrue(unitOne.structuralHashCode() == unitTwo.structuralHashCode());
+			String code = unitOne.make();
+			assertTrue(code == unitOne.make());
+			int structuralHashCode = unitOne.structuralHashCode();
+			unitTwo.getClass("code.generator.memo.Function").addModifier(Modifier.ABSTRACT);
+			assertTrue(code == unitOne.make());
+			FunctionSourceGenerator resetMethod = FunctionSourceGenerator.create("reset").setReturnType(void.class).addModifier(Modifier.PUBLIC);
+			unitOne.getClass("code.generator.memo.Function").addMethod(resetMethod);
+			assertTrue(structuralHashCode != unitOne.structuralHashCode());
+			assertTrue(unitOne.make().contains("public void reset()"));
+			resetMethod.addModifier(Modifier.ABSTRACT);
+			assertTrue(unitOne.make().contains("public abstract void reset()"));
+		});
+	}
+	
+	@Test
+	public void extractClassNameTest() throws Throwable {
+		testDoesNotThrow(() -> {
+			UnitSourceGenerator unit = SourceCodeHandler.generateFunction("code.generator.names.Function", 3);
+			assertTrue(unit.getMainClassName().equals("code.generator.names.Function"));
+			assertTrue(SourceCodeHandler.extractClassName(unit.make()).equals("code.generator.names.Function"));
+			assertTrue(UnitSourceGenerator.create(null).addClass(
+				ClassSourceGenerator.create(TypeDeclarationSourceGenerator.create("NoPackage")).addModifier(Modifier.PUBLIC)
+			).getMainClassName().equals("NoPackage"));
+			assertTrue(SourceCodeHandler.extractClassName(
+				"/* class Commented */ package code.generator.names;\n" +
+				"@Annotation(value = String.class, message = \"enum Quoted\")\n" +
+				"public final class Plain {}"
+			).equals("code.generator.names.Plain"));
+		});
+	}
 }